@@ -0,0 +1,157 @@
+package org.lazydoc.annotation.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.*;
+import java.nio.charset.Charset;
+import java.util.*;
+
+/**
+ * Collects the Spring controllers of a compilation into the resource {@value #CONTROLLER_INDEX}, one class name per
+ * line. LazyDoc reads this index instead of scanning the class path for controllers. Entries of an earlier
+ * compilation are kept as long as the class still exists and still is a controller, so incremental builds keep a
+ * complete index.
+ */
+public class ControllerIndexProcessor extends AbstractProcessor {
+
+    public static final String CONTROLLER_INDEX = "META-INF/lazydoc/controllers";
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final Set<String> CONTROLLER_ANNOTATIONS = new HashSet<>(Arrays.asList(
+            "org.springframework.stereotype.Controller", "org.springframework.web.bind.annotation.RestController"));
+
+    private final SortedSet<String> controllers = new TreeSet<>();
+    private final Set<String> processedTypes = new HashSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton("*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getRootElements()) {
+            collectControllers(element);
+        }
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        }
+        return false;
+    }
+
+    private void collectControllers(Element element) {
+        if (element.getKind() == ElementKind.CLASS) {
+            TypeElement typeElement = (TypeElement) element;
+            String className = getBinaryName(typeElement);
+            processedTypes.add(className);
+            if (isController(typeElement)) {
+                controllers.add(className);
+            }
+        }
+        for (Element enclosedElement : element.getEnclosedElements()) {
+            if (enclosedElement.getKind() == ElementKind.CLASS && enclosedElement.getModifiers().contains(Modifier.STATIC)) {
+                collectControllers(enclosedElement);
+            }
+        }
+    }
+
+    private boolean isController(TypeElement typeElement) {
+        TypeElement current = typeElement;
+        while (current != null) {
+            if (isAnnotatedWithController(current, new HashSet<String>())) {
+                return true;
+            }
+            current = getSuperclass(current);
+        }
+        return false;
+    }
+
+    private boolean isAnnotatedWithController(Element element, Set<String> visitedAnnotations) {
+        for (AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotationMirror.getAnnotationType().asElement();
+            String annotationName = annotationType.getQualifiedName().toString();
+            if (CONTROLLER_ANNOTATIONS.contains(annotationName)) {
+                return true;
+            }
+            if (!annotationName.startsWith("java.lang.annotation.") && visitedAnnotations.add(annotationName)
+                    && isAnnotatedWithController(annotationType, visitedAnnotations)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private TypeElement getSuperclass(TypeElement typeElement) {
+        TypeMirror superclass = typeElement.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        return (TypeElement) ((DeclaredType) superclass).asElement();
+    }
+
+    private String getBinaryName(TypeElement typeElement) {
+        return processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+    }
+
+    private void writeIndex() {
+        SortedSet<String> index = new TreeSet<>(controllers);
+        Elements elements = processingEnv.getElementUtils();
+        for (String previousController : readPreviousIndex()) {
+            if (!processedTypes.contains(previousController)) {
+                TypeElement typeElement = elements.getTypeElement(previousController.replace('$', '.'));
+                if (typeElement != null && isController(typeElement)) {
+                    index.add(previousController);
+                }
+            }
+        }
+        if (index.isEmpty()) {
+            return;
+        }
+        Filer filer = processingEnv.getFiler();
+        try {
+            FileObject resource = filer.createResource(StandardLocation.CLASS_OUTPUT, "", CONTROLLER_INDEX);
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(resource.openOutputStream(), UTF_8))) {
+                for (String controller : index) {
+                    writer.write(controller);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Could not write LazyDoc controller index " + CONTROLLER_INDEX + ": " + e.getMessage());
+        }
+    }
+
+    private List<String> readPreviousIndex() {
+        List<String> previousIndex = new ArrayList<>();
+        try {
+            FileObject resource = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", CONTROLLER_INDEX);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openInputStream(), UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.trim().isEmpty()) {
+                        previousIndex.add(line.trim());
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // no index of an earlier compilation
+        }
+        return previousIndex;
+    }
+}
@@ -6,12 +6,19 @@ import org.apache.logging.log4j.core.LoggerContext;
 import org.apache.logging.log4j.core.config.LoggerConfig;
 import org.lazydoc.config.Config;
 import org.lazydoc.config.PrinterConfig;
+import org.lazydoc.config.RunContext;
+import org.lazydoc.model.DocDataType;
+import org.lazydoc.model.DocDomain;
+import org.lazydoc.model.DocError;
+import org.lazydoc.model.DocModelFreezer;
 import org.lazydoc.parser.DataTypeParser;
 import org.lazydoc.parser.spring.SpringParser;
-import org.lazydoc.printer.DocumentationPrinter;
+import org.lazydoc.printer.PrinterRunner;
 import org.lazydoc.reporter.DocumentationReporter;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class LazyDoc {
 
@@ -24,8 +31,9 @@ public class LazyDoc {
 	public void document(Config config, List printerConfigs, String logLevel) throws Exception {
 		this.config = config;
 		this.reporter = new DocumentationReporter();
-		this.dataTypeParser = new DataTypeParser(reporter, config);
-		this.springParser = new SpringParser(config, reporter, dataTypeParser);
+		RunContext runContext = new RunContext(config);
+		this.dataTypeParser = new DataTypeParser(reporter, runContext);
+		this.springParser = new SpringParser(runContext, reporter, dataTypeParser);
 
 		LoggerContext ctx = (LoggerContext) LogManager.getContext(false);
 		LoggerConfig loggerConfig = ctx.getConfiguration().getLoggerConfig(LogManager.ROOT_LOGGER_NAME);
@@ -34,14 +42,17 @@ public class LazyDoc {
 
 		springParser.parseSpringControllers();
 		if (printerConfigs != null) {
-			for(PrinterConfig printerConfig : (List<PrinterConfig>)printerConfigs) {
-				printerConfig.setDomains(springParser.getDomains());
-				printerConfig.setDataTypes(dataTypeParser.getDataTypes());
-				printerConfig.setListOfCommonErrors(springParser.getListOfCommonErrors());
-				printerConfig.setOutputPath(printerConfig.getOutputPath());
-				DocumentationPrinter printer = (DocumentationPrinter)Class.forName(printerConfig.getClassName()).newInstance();
-				printer.print(printerConfig);
+			DocModelFreezer freezer = new DocModelFreezer();
+			Map<Integer, DocDomain> domains = freezer.freezeDomains(springParser.getDomains());
+			Map<String, DocDataType> dataTypes = freezer.freezeDataTypes(dataTypeParser.getDataTypes());
+			Set<DocError> listOfCommonErrors = freezer.freezeErrors(springParser.getListOfCommonErrors());
+			List<PrinterConfig> typedPrinterConfigs = (List<PrinterConfig>)printerConfigs;
+			for(PrinterConfig printerConfig : typedPrinterConfigs) {
+				printerConfig.setDomains(domains);
+				printerConfig.setDataTypes(dataTypes);
+				printerConfig.setListOfCommonErrors(listOfCommonErrors);
 			}
+			new PrinterRunner(config.getPrinterParallelism()).run(typedPrinterConfigs);
 		}
 		reporter.printOverallProgressReport();
         if(config.isBreakOnUndocumented() && reporter.getUndocumentedCount() > 0) {
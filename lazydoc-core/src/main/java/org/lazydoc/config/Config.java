@@ -15,6 +15,12 @@ public class Config {
 	private String abstractControllerClassForCommonExceptionHandlers;
     private String instanceControllerClassForCommonExceptionHandlers;
     private String controllerClassToStopErrorInspection;
+    private String scanIndexFile;
+    private int parserParallelism = 0;
+    private int exceptionHandlerInvokerThreads = 0;
+    private long exceptionHandlerInvokerTimeoutMillis = 30000;
+    private int printerParallelism = 0;
+    private boolean runControllerConstructors = true;
 
     public String getCustomAnnotationToBeIgnored() {
 		return customAnnotationToBeIgnored;
@@ -81,6 +87,72 @@ public class Config {
         this.controllerClassToStopErrorInspection = controllerClassToStopErrorInspection;
     }
 
+    public String getScanIndexFile() {
+        return scanIndexFile;
+    }
+
+    public void setScanIndexFile(String scanIndexFile) {
+        this.scanIndexFile = scanIndexFile;
+    }
+
+    /**
+     * @return The number of threads extracting controllers, 0 uses one thread per available processor.
+     */
+    public int getParserParallelism() {
+        return parserParallelism;
+    }
+
+    public void setParserParallelism(int parserParallelism) {
+        this.parserParallelism = parserParallelism;
+    }
+
+    /**
+     * @return The number of threads running the exception handler invoker, 0 uses the parser parallelism.
+     */
+    public int getExceptionHandlerInvokerThreads() {
+        return exceptionHandlerInvokerThreads;
+    }
+
+    public void setExceptionHandlerInvokerThreads(int exceptionHandlerInvokerThreads) {
+        this.exceptionHandlerInvokerThreads = exceptionHandlerInvokerThreads;
+    }
+
+    /**
+     * @return The time in milliseconds after which an invocation of the exception handler invoker is given up and
+     * the error message is left empty.
+     */
+    public long getExceptionHandlerInvokerTimeoutMillis() {
+        return exceptionHandlerInvokerTimeoutMillis;
+    }
+
+    public void setExceptionHandlerInvokerTimeoutMillis(long exceptionHandlerInvokerTimeoutMillis) {
+        this.exceptionHandlerInvokerTimeoutMillis = exceptionHandlerInvokerTimeoutMillis;
+    }
+
+    /**
+     * @return True if the controllers handed to the exception handler invoker are created with their constructors,
+     * false if they are allocated without running any constructor. Allocated controllers have no initialized fields,
+     * so only exception handlers that do not read the state of the controller can be invoked on them.
+     */
+    public boolean isRunControllerConstructors() {
+        return runControllerConstructors;
+    }
+
+    public void setRunControllerConstructors(boolean runControllerConstructors) {
+        this.runControllerConstructors = runControllerConstructors;
+    }
+
+    /**
+     * @return The number of printers running at the same time, 0 runs all printers at the same time.
+     */
+    public int getPrinterParallelism() {
+        return printerParallelism;
+    }
+
+    public void setPrinterParallelism(int printerParallelism) {
+        this.printerParallelism = printerParallelism;
+    }
+
     @Override
     public String toString() {
         return "Config{" +
@@ -93,6 +165,12 @@ public class Config {
                 ", abstractControllerClassForCommonExceptionHandlers='" + abstractControllerClassForCommonExceptionHandlers + '\'' +
                 ", instanceControllerClassForCommonExceptionHandlers='" + instanceControllerClassForCommonExceptionHandlers + '\'' +
                 ", controllerClassToStopErrorInspection='" + controllerClassToStopErrorInspection + '\'' +
+                ", scanIndexFile='" + scanIndexFile + '\'' +
+                ", parserParallelism=" + parserParallelism +
+                ", exceptionHandlerInvokerThreads=" + exceptionHandlerInvokerThreads +
+                ", exceptionHandlerInvokerTimeoutMillis=" + exceptionHandlerInvokerTimeoutMillis +
+                ", printerParallelism=" + printerParallelism +
+                ", runControllerConstructors=" + runControllerConstructors +
                 '}';
     }
 
@@ -0,0 +1,147 @@
+package org.lazydoc.config;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.lazydoc.util.Inspector;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The {@link Config} of a run with its class names resolved to classes and its lists split. The context is built
+ * and validated once before parsing, so that a wrong class name fails the run at startup and the parsers do not
+ * have to look up classes by name.
+ * <p>
+ * The packages to search for controllers and the custom annotations to be ignored may be given as comma separated
+ * lists.
+ */
+public class RunContext {
+
+    private static final Logger log = LogManager.getLogger(RunContext.class);
+
+    private final Config config;
+    private final List<String> packagesToSearchForControllers;
+    private final List<Class<? extends Annotation>> customAnnotationsToBeIgnored;
+    private final Class<?> baseDTOClass;
+    private final Class<?> exceptionHandlerInvokerClass;
+    private final Class<?> abstractControllerClassForCommonExceptionHandlers;
+    private final Class<?> instanceControllerClassForCommonExceptionHandlers;
+    private final Class<?> controllerClassToStopErrorInspection;
+
+    public RunContext(Config config) {
+        this.config = config;
+        this.packagesToSearchForControllers = split(config.getPackageToSearchForControllers());
+        if (packagesToSearchForControllers.isEmpty()) {
+            throw new RuntimeException("Please provide package to search for controllers in configuration");
+        }
+        this.customAnnotationsToBeIgnored = getAnnotationClasses(config.getCustomAnnotationToBeIgnored());
+        this.baseDTOClass = getBaseDTOClass(config.getBaseDTOClassname());
+        this.exceptionHandlerInvokerClass = getClassByName(config.getExceptionHandlerInvoker());
+        this.abstractControllerClassForCommonExceptionHandlers = getClassByName(config.getAbstractControllerClassForCommonExceptionHandlers());
+        this.instanceControllerClassForCommonExceptionHandlers = getClassByName(config.getInstanceControllerClassForCommonExceptionHandlers());
+        this.controllerClassToStopErrorInspection = getClassByName(config.getControllerClassToStopErrorInspection());
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public List<String> getPackagesToSearchForControllers() {
+        return packagesToSearchForControllers;
+    }
+
+    public List<Class<? extends Annotation>> getCustomAnnotationsToBeIgnored() {
+        return customAnnotationsToBeIgnored;
+    }
+
+    /**
+     * @return The configured base DTO class or Object if none is configured or the configured one cannot be found.
+     */
+    public Class<?> getBaseDTOClass() {
+        return baseDTOClass;
+    }
+
+    /**
+     * @return The configured class of the exception handler invoker or null if none is configured.
+     */
+    public Class<?> getExceptionHandlerInvokerClass() {
+        return exceptionHandlerInvokerClass;
+    }
+
+    public Class<?> getAbstractControllerClassForCommonExceptionHandlers() {
+        return abstractControllerClassForCommonExceptionHandlers;
+    }
+
+    public Class<?> getInstanceControllerClassForCommonExceptionHandlers() {
+        return instanceControllerClassForCommonExceptionHandlers;
+    }
+
+    /**
+     * @return The controller class at which the inspection of exception handlers stops or null if all super
+     * classes are inspected.
+     */
+    public Class<?> getControllerClassToStopErrorInspection() {
+        return controllerClassToStopErrorInspection;
+    }
+
+    private static List<String> split(String value) {
+        List<String> values = new ArrayList<>();
+        for (String part : StringUtils.split(StringUtils.defaultString(value), ',')) {
+            if (StringUtils.isNotBlank(part)) {
+                values.add(part.trim());
+            }
+        }
+        return Collections.unmodifiableList(values);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Class<? extends Annotation>> getAnnotationClasses(String classNames) {
+        List<Class<? extends Annotation>> annotationClasses = new ArrayList<>();
+        for (String className : split(classNames)) {
+            Class<?> annotationClass = getClassByName(className);
+            if (!annotationClass.isAnnotation()) {
+                throw new RuntimeException("Custom annotation to be ignored " + className + " is no annotation");
+            }
+            annotationClasses.add((Class<? extends Annotation>) annotationClass);
+        }
+        return Collections.unmodifiableList(annotationClasses);
+    }
+
+    private static Class<?> getBaseDTOClass(String className) {
+        if (StringUtils.isNotBlank(className)) {
+            try {
+                return Inspector.loadClass(className.trim());
+            } catch (ClassNotFoundException e) {
+                log.warn("Could not find configured base DTO class " + className);
+            }
+        }
+        return Object.class;
+    }
+
+    private static Class<?> getClassByName(String className) {
+        if (StringUtils.isBlank(className)) {
+            return null;
+        }
+        try {
+            return Inspector.loadClass(className.trim());
+        } catch (ClassNotFoundException e) {
+            throw new RuntimeException("Error getting class for name " + className, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RunContext{" +
+                "packagesToSearchForControllers=" + packagesToSearchForControllers +
+                ", customAnnotationsToBeIgnored=" + customAnnotationsToBeIgnored +
+                ", baseDTOClass=" + baseDTOClass +
+                ", exceptionHandlerInvokerClass=" + exceptionHandlerInvokerClass +
+                ", abstractControllerClassForCommonExceptionHandlers=" + abstractControllerClassForCommonExceptionHandlers +
+                ", instanceControllerClassForCommonExceptionHandlers=" + instanceControllerClassForCommonExceptionHandlers +
+                ", controllerClassToStopErrorInspection=" + controllerClassToStopErrorInspection +
+                '}';
+    }
+}
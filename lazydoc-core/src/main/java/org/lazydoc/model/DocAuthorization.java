@@ -0,0 +1,43 @@
+package org.lazydoc.model;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The security expression an operation is authorized with and the roles and authorities any of which grants access.
+ */
+public class DocAuthorization {
+
+	private final String expression;
+	private final List<String> roles;
+
+	public DocAuthorization(String expression, List<String> roles) {
+		this.expression = expression;
+		this.roles = Collections.unmodifiableList(roles);
+	}
+
+	public String getExpression() {
+		return expression;
+	}
+
+	public List<String> getRoles() {
+		return roles;
+	}
+
+	/**
+	 * @return The roles separated by commas, or the expression if the roles could not be read from it.
+	 */
+	public String getRoleNames() {
+		if (roles.isEmpty()) {
+			return expression;
+		}
+		return StringUtils.join(roles, ",");
+	}
+
+	@Override
+	public String toString() {
+		return expression;
+	}
+}
@@ -68,6 +68,13 @@ public class DocDataType {
 		return StringUtils.isNotBlank(alias) ? alias : name;
 	}
 
+	void freeze(DocModelFreezer freezer) {
+		name = freezer.intern(name);
+		id = freezer.intern(id);
+		alias = freezer.intern(alias);
+		properties = freezer.freezeProperties(properties);
+	}
+
 	@Override
 	public String toString() {
 		return "DocDataType{" +
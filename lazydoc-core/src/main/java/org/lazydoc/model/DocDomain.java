@@ -112,6 +112,16 @@ public class DocDomain {
         this.deprecated = deprecated;
     }
 
+    void freeze(DocModelFreezer freezer) {
+        domain = freezer.intern(domain);
+        domainShortDescription = freezer.intern(domainShortDescription);
+        description = freezer.intern(description);
+        externalDocumentations = freezer.freezeExternalDocumentations(externalDocumentations);
+        operations = freezer.freezeOperations(operations);
+        subDomains = freezer.freezeSubDomains(subDomains);
+        errorList = freezer.freezeErrors(errorList);
+    }
+
     @Override
     public String toString() {
         return "DocDomain{" +
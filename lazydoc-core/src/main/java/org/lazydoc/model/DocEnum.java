@@ -30,4 +30,9 @@ public class DocEnum implements Comparable<DocEnum> {
         }
         return result;
     }
+
+    void freeze(DocModelFreezer freezer) {
+        value = freezer.intern(value);
+        description = freezer.intern(description);
+    }
 }
@@ -52,6 +52,11 @@ public class DocError implements Comparable<DocError> {
 		}
 	}
 
+	void freeze(DocModelFreezer freezer) {
+		errorCode = freezer.intern(errorCode);
+		description = freezer.intern(description);
+	}
+
 	@Override
 	public String toString() {
 		return "DocError{" +
@@ -22,4 +22,8 @@ public class DocExternalDocumentation {
     public void setPostion(InsertPosition postion) {
         this.postion = postion;
     }
+
+    void freeze(DocModelFreezer freezer) {
+        location = freezer.intern(location);
+    }
 }
@@ -0,0 +1,193 @@
+package org.lazydoc.model;
+
+import java.util.*;
+
+/**
+ * Turns the parsed documentation model into a compact one which the printers share. The collections are replaced by
+ * unmodifiable ones, sorted sets and maps by arrays and empty collections by the shared empty ones. Equal strings,
+ * errors and enum values are replaced by one instance and equal sets of errors and of enum values by one set.
+ * The model must not be changed after it was frozen.
+ */
+public class DocModelFreezer {
+
+	private static final String[] NO_STRINGS = {};
+
+	private final Map<String, String> strings = new HashMap<>();
+	private final Map<List<Object>, Object> flyweights = new HashMap<>();
+	private final Set<Object> frozen = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+
+	public Map<Integer, DocDomain> freezeDomains(Map<Integer, DocDomain> domains) {
+		for (DocDomain domain : domains.values()) {
+			if (markFrozen(domain)) {
+				domain.freeze(this);
+			}
+		}
+		return compactMap(domains);
+	}
+
+	public Map<String, DocDataType> freezeDataTypes(Map<String, DocDataType> dataTypes) {
+		for (DocDataType dataType : dataTypes.values()) {
+			if (markFrozen(dataType)) {
+				dataType.freeze(this);
+			}
+		}
+		return compactMap(dataTypes);
+	}
+
+	public Set<DocError> freezeErrors(Set<DocError> errors) {
+		List<DocError> sharedErrors = new ArrayList<>(errors.size());
+		for (DocError error : errors) {
+			error.freeze(this);
+			sharedErrors.add(share(error, error.getStatusCode(), error.getErrorCode(), error.getDescription()));
+		}
+		return shareSet(sharedErrors, errors);
+	}
+
+	Set<DocEnum> freezeEnumValues(Set<DocEnum> enumValues) {
+		List<DocEnum> sharedEnumValues = new ArrayList<>(enumValues.size());
+		for (DocEnum enumValue : enumValues) {
+			enumValue.freeze(this);
+			sharedEnumValues.add(share(enumValue, enumValue.getValue(), enumValue.getDescription()));
+		}
+		return shareSet(sharedEnumValues, enumValues);
+	}
+
+	Set<DocOperation> freezeOperations(Set<DocOperation> operations) {
+		for (DocOperation operation : operations) {
+			if (markFrozen(operation)) {
+				operation.freeze(this);
+			}
+		}
+		return compactSet(operations);
+	}
+
+	Map<Integer, DocSubDomain> freezeSubDomains(Map<Integer, DocSubDomain> subDomains) {
+		for (DocSubDomain subDomain : subDomains.values()) {
+			if (markFrozen(subDomain)) {
+				subDomain.freeze(this);
+			}
+		}
+		return compactMap(subDomains);
+	}
+
+	List<DocParameter> freezeParameters(List<DocParameter> parameters) {
+		for (DocParameter parameter : parameters) {
+			if (markFrozen(parameter)) {
+				parameter.freeze(this);
+			}
+		}
+		return compactList(parameters);
+	}
+
+	List<DocProperty> freezeProperties(List<DocProperty> properties) {
+		for (DocProperty property : properties) {
+			if (markFrozen(property)) {
+				property.freeze(this);
+			}
+		}
+		return compactList(properties);
+	}
+
+	List<DocExternalDocumentation> freezeExternalDocumentations(List<DocExternalDocumentation> externalDocumentations) {
+		for (DocExternalDocumentation externalDocumentation : externalDocumentations) {
+			externalDocumentation.freeze(this);
+		}
+		return compactList(externalDocumentations);
+	}
+
+	String[] freezeStrings(String[] values) {
+		if (values == null || values.length == 0) {
+			return NO_STRINGS;
+		}
+		for (int i = 0; i < values.length; i++) {
+			values[i] = intern(values[i]);
+		}
+		return values;
+	}
+
+	String intern(String value) {
+		if (value == null) {
+			return null;
+		}
+		String internedValue = strings.get(value);
+		if (internedValue == null) {
+			strings.put(value, value);
+			internedValue = value;
+		}
+		return internedValue;
+	}
+
+	private boolean markFrozen(Object model) {
+		return model != null && frozen.add(model);
+	}
+
+	/**
+	 * @return The first instance frozen with the same values.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> T share(T model, Object... values) {
+		List<Object> key = new ArrayList<>(values.length + 1);
+		key.add(model.getClass());
+		key.addAll(Arrays.asList(values));
+		T sharedModel = (T) flyweights.get(key);
+		if (sharedModel == null) {
+			flyweights.put(key, model);
+			sharedModel = model;
+		}
+		return sharedModel;
+	}
+
+	/**
+	 * The shared elements are equal by identity, so sets with the same shared elements in the same order are shared,
+	 * whether they are sorted or not, like the unmodifiable enum value sets of the data type parser.
+	 */
+	@SuppressWarnings("unchecked")
+	private <E> Set<E> shareSet(List<E> sharedElements, Set<E> set) {
+		boolean sorted = isSortedByNaturalOrder(set);
+		List<Object> key = new ArrayList<Object>(sharedElements);
+		key.add(0, sorted ? SortedArraySet.class : LinkedHashSet.class);
+		Set<E> sharedSet = (Set<E>) flyweights.get(key);
+		if (sharedSet == null) {
+			if (sharedElements.isEmpty()) {
+				sharedSet = Collections.emptySet();
+			} else if (sorted) {
+				sharedSet = new SortedArraySet<>(sharedElements);
+			} else {
+				sharedSet = Collections.unmodifiableSet(new LinkedHashSet<>(sharedElements));
+			}
+			flyweights.put(key, sharedSet);
+		}
+		return sharedSet;
+	}
+
+	private <E> List<E> compactList(List<E> list) {
+		if (list.isEmpty()) {
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(new ArrayList<>(list));
+	}
+
+	private <E> Set<E> compactSet(Set<E> set) {
+		if (set.isEmpty()) {
+			return Collections.emptySet();
+		}
+		if (isSortedByNaturalOrder(set)) {
+			return new SortedArraySet<>(set);
+		}
+		return Collections.unmodifiableSet(new LinkedHashSet<>(set));
+	}
+
+	private <K, V> Map<K, V> compactMap(Map<K, V> map) {
+		if (map.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		if (map instanceof SortedMap && ((SortedMap<K, V>) map).comparator() == null) {
+			return new SortedArrayMap<>(map);
+		}
+		return Collections.unmodifiableMap(new LinkedHashMap<>(map));
+	}
+
+	private boolean isSortedByNaturalOrder(Set<?> set) {
+		return set instanceof SortedSet && ((SortedSet<?>) set).comparator() == null;
+	}
+}
@@ -11,6 +11,7 @@ public class DocOperation implements Comparable<DocOperation> {
 	private Integer order = 0;
 	private String fileName;
 	private String path = "";
+	private DocPath requestPath;
 	private String pathDescription = "";
 	private String httpMethod = "";
 	private String responseStatus = "";
@@ -24,6 +25,7 @@ public class DocOperation implements Comparable<DocOperation> {
 	private String staticRequestSample = "";
 	private List<DocParameter> parameters = new ArrayList<DocParameter>();
 	private String role;
+	private DocAuthorization authorization;
 	private List<DocExternalDocumentation> externalDocumentations = new ArrayList<>();
 	private Set<DocError> errorList = new TreeSet<>();
 	private boolean deprecated;
@@ -44,6 +46,17 @@ public class DocOperation implements Comparable<DocOperation> {
 		this.path = path;
 	}
 
+	/**
+	 * @return The parsed request path or null if the operation was not parsed from a request mapping.
+	 */
+	public DocPath getRequestPath() {
+		return requestPath;
+	}
+
+	public void setRequestPath(DocPath requestPath) {
+		this.requestPath = requestPath;
+	}
+
 	public String getPathDescription() {
 		return pathDescription;
 	}
@@ -151,6 +164,17 @@ public class DocOperation implements Comparable<DocOperation> {
 		this.role = role;
 	}
 
+	/**
+	 * @return The parsed security expression or null if the operation is not secured.
+	 */
+	public DocAuthorization getAuthorization() {
+		return authorization;
+	}
+
+	public void setAuthorization(DocAuthorization authorization) {
+		this.authorization = authorization;
+	}
+
 	public String getStaticRequestSample() {
 		return staticRequestSample;
 	}
@@ -195,4 +219,26 @@ public class DocOperation implements Comparable<DocOperation> {
 	public void setErrorList(Set<DocError> errorList) {
 		this.errorList = errorList;
 	}
+
+	void freeze(DocModelFreezer freezer) {
+		fileName = freezer.intern(fileName);
+		path = freezer.intern(path);
+		pathDescription = freezer.intern(pathDescription);
+		httpMethod = freezer.intern(httpMethod);
+		responseStatus = freezer.intern(responseStatus);
+		nickname = freezer.intern(nickname);
+		shortDescription = freezer.intern(shortDescription);
+		description = freezer.intern(description);
+		notes = freezer.intern(notes);
+		errorResponse = freezer.intern(errorResponse);
+		level = freezer.intern(level);
+		staticRequestSample = freezer.intern(staticRequestSample);
+		role = freezer.intern(role);
+		if (operationResponse != null) {
+			operationResponse.freeze(freezer);
+		}
+		parameters = freezer.freezeParameters(parameters);
+		externalDocumentations = freezer.freezeExternalDocumentations(externalDocumentations);
+		errorList = freezer.freezeErrors(errorList);
+	}
 }
\ No newline at end of file
@@ -61,6 +61,13 @@ public class DocOperationResponse {
         this.simpleTypeDescription = simpleTypeDescription;
     }
 
+    void freeze(DocModelFreezer freezer) {
+        responseType = freezer.intern(responseType);
+        description = freezer.intern(description);
+        staticSample = freezer.intern(staticSample);
+        simpleTypeDescription = freezer.intern(simpleTypeDescription);
+    }
+
     @Override
     public String toString() {
         return "DocOperationResponse{" +
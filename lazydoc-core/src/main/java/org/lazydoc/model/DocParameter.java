@@ -95,4 +95,11 @@ public class DocParameter {
 		this.ignore = ignore;
 	}
 
+	void freeze(DocModelFreezer freezer) {
+		paramType = freezer.intern(paramType);
+		name = freezer.intern(name);
+		referenceName = freezer.intern(referenceName);
+		description = freezer.intern(description);
+		dataType = freezer.intern(dataType);
+	}
 }
\ No newline at end of file
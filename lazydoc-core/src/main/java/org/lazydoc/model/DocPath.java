@@ -0,0 +1,49 @@
+package org.lazydoc.model;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The request path of an operation parsed into its segments and path variables. The prefix is the path of the
+ * controller the operation is mapped in.
+ */
+public class DocPath {
+
+	private final String prefix;
+	private final List<String> segments;
+	private final List<String> pathVariables;
+	private final String path;
+
+	public DocPath(String prefix, List<String> segments, List<String> pathVariables, boolean trailingSlash) {
+		this.prefix = prefix;
+		this.segments = Collections.unmodifiableList(segments);
+		this.pathVariables = Collections.unmodifiableList(pathVariables);
+		this.path = "/" + StringUtils.join(segments, "/") + (trailingSlash && !segments.isEmpty() ? "/" : "");
+	}
+
+	public String getPrefix() {
+		return prefix;
+	}
+
+	public List<String> getSegments() {
+		return segments;
+	}
+
+	/**
+	 * @return The names of the path variables in the order they appear in the path.
+	 */
+	public List<String> getPathVariables() {
+		return pathVariables;
+	}
+
+	public String getPath() {
+		return path;
+	}
+
+	@Override
+	public String toString() {
+		return path;
+	}
+}
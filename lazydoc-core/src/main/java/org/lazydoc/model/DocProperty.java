@@ -26,6 +26,33 @@ public class DocProperty implements Comparable<DocProperty> {
 	private boolean requestNullValueSample = true;
 	private boolean responseNullValueSample = true;
 
+	public DocProperty() {
+	}
+
+	/**
+	 * Copies the property, the sample and the enum values are shared with the copied property.
+	 */
+	public DocProperty(DocProperty property) {
+		this.order = property.order;
+		this.name = property.name;
+		this.description = property.description;
+		this.mapKeyDescription = property.mapKeyDescription;
+		this.mapValueDescription = property.mapValueDescription;
+		this.type = property.type;
+		this.sample = property.sample;
+		this.enumValues = property.enumValues;
+		this.addEnumValues = property.addEnumValues;
+		this.required = property.required;
+		this.request = property.request;
+		this.response = property.response;
+		this.list = property.list;
+		this.map = property.map;
+		this.deprecated = property.deprecated;
+		this.primitive = property.primitive;
+		this.requestNullValueSample = property.requestNullValueSample;
+		this.responseNullValueSample = property.responseNullValueSample;
+	}
+
 	public boolean hasEnumValues() {
 		return !enumValues.isEmpty();
 	}
@@ -200,6 +227,16 @@ public class DocProperty implements Comparable<DocProperty> {
 		return compareResult;
 	}
 
+	void freeze(DocModelFreezer freezer) {
+		name = freezer.intern(name);
+		description = freezer.intern(description);
+		mapKeyDescription = freezer.intern(mapKeyDescription);
+		mapValueDescription = freezer.intern(mapValueDescription);
+		type = freezer.intern(type);
+		sample = freezer.freezeStrings(sample);
+		enumValues = freezer.freezeEnumValues(enumValues);
+	}
+
 	@Override
 	public String toString() {
 		return "DocProperty{" +
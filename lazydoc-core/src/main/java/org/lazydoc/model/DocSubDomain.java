@@ -31,6 +31,13 @@ public class DocSubDomain extends DocDomain {
 		return domain + "-" + subDomain;
 	}
 
+	@Override
+	void freeze(DocModelFreezer freezer) {
+		super.freeze(freezer);
+		subDomain = freezer.intern(subDomain);
+		subDomainShortDescription = freezer.intern(subDomainShortDescription);
+	}
+
 	@Override
 	public String toString() {
 		return "DocSubDomain{" +
@@ -0,0 +1,86 @@
+package org.lazydoc.model;
+
+import java.util.*;
+
+/**
+ * Unmodifiable map of the entries of a map sorted by the natural order of its keys, kept in two arrays. The keys are
+ * looked up by their natural order like in the sorted map.
+ */
+final class SortedArrayMap<K, V> extends AbstractMap<K, V> {
+
+	private final Object[] keys;
+	private final Object[] values;
+
+	SortedArrayMap(Map<K, V> sortedMap) {
+		List<Entry<K, V>> entries = new ArrayList<>(sortedMap.entrySet());
+		this.keys = new Object[entries.size()];
+		this.values = new Object[entries.size()];
+		for (int i = 0; i < entries.size(); i++) {
+			keys[i] = entries.get(i).getKey();
+			values[i] = entries.get(i).getValue();
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		int index = indexOf(key);
+		return index >= 0 ? (V) values[index] : null;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return indexOf(key) >= 0;
+	}
+
+	@Override
+	public int size() {
+		return keys.length;
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		return new AbstractSet<Entry<K, V>>() {
+			@Override
+			public Iterator<Entry<K, V>> iterator() {
+				return new Iterator<Entry<K, V>>() {
+					private int index = 0;
+
+					@Override
+					public boolean hasNext() {
+						return index < keys.length;
+					}
+
+					@Override
+					@SuppressWarnings("unchecked")
+					public Entry<K, V> next() {
+						if (index >= keys.length) {
+							throw new NoSuchElementException();
+						}
+						Entry<K, V> entry = new SimpleImmutableEntry<>((K) keys[index], (V) values[index]);
+						index++;
+						return entry;
+					}
+
+					@Override
+					public void remove() {
+						throw new UnsupportedOperationException();
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return keys.length;
+			}
+		};
+	}
+
+	private int indexOf(Object key) {
+		try {
+			return Arrays.binarySearch(keys, key);
+		} catch (ClassCastException e) {
+			return -1;
+		}
+	}
+}
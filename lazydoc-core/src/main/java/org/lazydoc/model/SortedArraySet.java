@@ -0,0 +1,36 @@
+package org.lazydoc.model;
+
+import java.util.*;
+
+/**
+ * Unmodifiable set of the elements of a set sorted by their natural order, kept in an array. The elements are looked
+ * up by their natural order like in the sorted set.
+ */
+final class SortedArraySet<E> extends AbstractSet<E> {
+
+	private final Object[] elements;
+
+	SortedArraySet(Collection<E> sortedElements) {
+		this.elements = sortedElements.toArray();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Iterator<E> iterator() {
+		return ((List<E>) Arrays.asList(elements)).iterator();
+	}
+
+	@Override
+	public int size() {
+		return elements.length;
+	}
+
+	@Override
+	public boolean contains(Object element) {
+		try {
+			return Arrays.binarySearch(elements, element) >= 0;
+		} catch (ClassCastException e) {
+			return false;
+		}
+	}
+}
@@ -11,45 +11,48 @@ import org.hibernate.validator.constraints.NotBlank;
 import org.hibernate.validator.constraints.NotEmpty;
 import org.lazydoc.annotation.*;
 import org.lazydoc.config.Config;
+import org.lazydoc.config.RunContext;
 import org.lazydoc.model.DocDataType;
 import org.lazydoc.model.DocEnum;
 import org.lazydoc.model.DocParameter;
 import org.lazydoc.model.DocProperty;
 import org.lazydoc.reporter.DocumentationReporter;
+import org.lazydoc.util.BeanProperty;
+import org.lazydoc.util.ClassMetadata;
 import org.lazydoc.util.Inspector;
+import org.lazydoc.util.PropertyScanner;
 
 import javax.validation.constraints.NotNull;
-import java.beans.BeanInfo;
-import java.beans.IntrospectionException;
-import java.beans.Introspector;
-import java.beans.PropertyDescriptor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 import static org.apache.commons.lang3.StringUtils.removeEnd;
+import static org.lazydoc.util.ClassMetadata.getAnnotation;
+import static org.lazydoc.util.ClassMetadata.isAnnotationPresent;
 
 public class DataTypeParser {
 
     private static final Logger log = LogManager.getLogger(DataTypeParser.class);
 
-    private Map<String, DocDataType> dataTypes = new TreeMap<>();
+    private Map<String, DocDataType> dataTypes = new ConcurrentSkipListMap<>();
+    private ConcurrentMap<Class<?>, DocDataType> parsedDataTypes = new ConcurrentHashMap<>();
+    private ConcurrentMap<Class<?>, List<DocProperty>> propertiesOfLevels = new ConcurrentHashMap<>();
+    private ConcurrentMap<Class<?>, Set<DocEnum>> enumValuesByType = new ConcurrentHashMap<>();
+    private final Map<String, Class<?>> dataTypeClasses = new HashMap<>();
 
     private DocumentationReporter reporter;
-    private Class<?> configuredBaseDTOClass = Object.class;
+    private Class<?> configuredBaseDTOClass;
     private Config config;
 
-    public DataTypeParser(DocumentationReporter reporter, Config config) {
+    public DataTypeParser(DocumentationReporter reporter, RunContext runContext) {
         super();
-        this.config = config;
+        this.config = runContext.getConfig();
         this.reporter = reporter;
-        if (StringUtils.isNotBlank(config.getBaseDTOClassname())) {
-            try {
-                this.configuredBaseDTOClass = Class.forName(config.getBaseDTOClassname());
-            } catch (ClassNotFoundException e) {
-                log.warn("Could not find configured base DTO class " + config.getBaseDTOClassname());
-            }
-        }
+        this.configuredBaseDTOClass = runContext.getBaseDTOClass();
     }
 
     public void addListDataTypeStubAndAddRealDataType(DocParameter docParameter, Class<?> parameterType, String dataTypeName) {
@@ -69,8 +72,20 @@ public class DataTypeParser {
         addDataType(docParameter.getDataTypeClass().getComponentType());
     }
 
+    /**
+     * Adds the data type of the class and all data types reachable through its properties. Every class is only
+     * parsed once, further references reuse the parsed data type, which also ends reference cycles.
+     */
     public void addDataType(Class<?> clazz) {
-        if (isJavaType(clazz)) {
+        Deque<Class<?>> worklist = new ArrayDeque<>();
+        worklist.add(clazz);
+        while (!worklist.isEmpty()) {
+            parseDataType(worklist.poll(), worklist);
+        }
+    }
+
+    private void parseDataType(Class<?> clazz, Deque<Class<?>> worklist) {
+        if (isJavaType(clazz) || parsedDataTypes.containsKey(clazz)) {
             return;
         }
 
@@ -80,88 +95,138 @@ public class DataTypeParser {
         }
         DocDataType dataType = new DocDataType();
         dataType.setName(clazz.getSimpleName());
-        if (clazz.isAnnotationPresent(DescriptionAlias.class)) {
-            dataType.setAlias(clazz.getAnnotation(DescriptionAlias.class).value());
+        if (isAnnotationPresent(clazz, DescriptionAlias.class)) {
+            dataType.setAlias(getAnnotation(clazz, DescriptionAlias.class).value());
         }
         dataType.setNullValuesInSample(allowNullValuesInSample(clazz));
-        addDataType(clazz, dataType);
-        dataTypes.put(dataType.getName(), dataType);
+        if (parsedDataTypes.putIfAbsent(clazz, dataType) != null) {
+            return;
+        }
+        try {
+            addDataType(clazz, dataType, worklist);
+        } catch (RuntimeException e) {
+            parsedDataTypes.remove(clazz, dataType);
+            throw e;
+        }
+        publishDataType(clazz, dataType);
     }
 
-    private void addDataType(Class<?> clazz, DocDataType dataType) {
-        BeanInfo beanInfo;
-        try {
-            if (clazz == null) {
-                return;
-            }
-            if (isSuperClassNotBaseVO(clazz)) {
-                addDataType(getSuperClassOfVO(clazz), dataType);
-            }
-            beanInfo = Introspector.getBeanInfo(clazz);
-            for (PropertyDescriptor descriptor : beanInfo.getPropertyDescriptors()) {
-                Class<?> propertyType = descriptor.getPropertyType();
-                Field propertyField = getPropertyField(clazz, descriptor);
-                PropertyDescription propertyDescription = getPropertyDescription(propertyField, descriptor);
-                if (skipThisField(propertyField, propertyDescription, descriptor) || propertyDescription == null) {
-                    continue;
+    /**
+     * Classes with the same simple name are documented as one data type. The data types are parsed by the
+     * controllers in parallel, so the class with the first name in alphabetical order is documented, whichever of
+     * them is parsed first.
+     */
+    private void publishDataType(Class<?> clazz, DocDataType dataType) {
+        synchronized (dataTypeClasses) {
+            Class<?> publishedClass = dataTypeClasses.get(dataType.getName());
+            if (publishedClass != null && !publishedClass.equals(clazz)) {
+                boolean documented = clazz.getName().compareTo(publishedClass.getName()) < 0;
+                log.warn("Data types " + publishedClass.getName() + " and " + clazz.getName() + " have the same name "
+                        + dataType.getName() + ", only " + (documented ? clazz : publishedClass).getName() + " is documented");
+                if (!documented) {
+                    return;
                 }
-                DocProperty property = new DocProperty();
-                property.setName(getPropertyName(descriptor, propertyField));
-                property.setOrder(propertyDescription.order());
-                property.setRequired(isFieldRequired(propertyField, propertyDescription));
-                property.setRequest(isForRequest(propertyDescription, descriptor));
-                property.setResponse(isForResponse(propertyDescription, descriptor));
-                property.setDescription(getDescription(propertyField, property, propertyDescription));
-                property.setSample(getSample(propertyField, descriptor));
-                property.setDeprecated(isDeprecated(propertyField, descriptor));
-                property.setType(getPropertyType(propertyType, propertyField));
-                property.setList(Inspector.isListSetOrArray(propertyType));
-                property.setPrimitive(propertyType.isPrimitive());
-                property.setRequestNullValueSample(allowNullValueSample(descriptor.getWriteMethod()));
-                property.setResponseNullValueSample(allowNullValueSample(descriptor.getReadMethod()));
-                property.setEnumValues(getEnumValues(propertyType, propertyField, propertyDescription));
-                property.setAddEnumValues(propertyDescription.addPossibleEnumValues());
-                if (Inspector.isMap(propertyType)) {
-                    property.setMap(true);
-                    if (propertyField.isAnnotationPresent(PropertyMapDescription.class)) {
-                        PropertyMapDescription mapDescription = propertyField.getAnnotation(PropertyMapDescription.class);
-                        property.setMapKeyDescription(mapDescription.keyDescription());
-                        property.setMapValueDescription(mapDescription.valueDescription());
-                    }
+            }
+            dataTypeClasses.put(dataType.getName(), clazz);
+            dataTypes.put(dataType.getName(), dataType);
+        }
+    }
+
+    /**
+     * Adds the properties of the class level by level starting at the top of the hierarchy. The properties of a
+     * level are parsed once and shared by all data types inheriting them, a property is only copied when its
+     * order is changed for one data type.
+     */
+    private void addDataType(Class<?> clazz, DocDataType dataType, Deque<Class<?>> worklist) {
+        if (clazz == null) {
+            return;
+        }
+        if (isSuperClassNotBaseVO(clazz)) {
+            addDataType(getSuperClassOfVO(clazz), dataType, worklist);
+        }
+        dataType.getProperties().addAll(getPropertiesOfLevel(clazz, worklist));
+        if (isAnnotationPresent(clazz, JsonPropertyOrder.class)) {
+            JsonPropertyOrder propertyOrder = getAnnotation(clazz, JsonPropertyOrder.class);
+            int order = 1;
+            List<DocProperty> properties = dataType.getProperties();
+            Map<String, Integer> propertyIndexesByName = getPropertyIndexesByName(properties);
+            for (String propertyName : propertyOrder.value()) {
+                Integer propertyIndex = propertyIndexesByName.get(propertyName);
+                if (propertyIndex != null) {
+                    DocProperty property = new DocProperty(properties.get(propertyIndex));
+                    property.setOrder(order++);
+                    properties.set(propertyIndex, property);
+                } else {
+                    log.warn("Property " + propertyName + " not found in property list of type " + dataType.getName());
                 }
-                dataType.getProperties().add(property);
-                addFurtherVOClasses(propertyType);
+
+            }
+        }
+        Collections.sort(dataType.getProperties());
+        log.debug(dataType.toString());
+    }
+
+    private List<DocProperty> getPropertiesOfLevel(Class<?> clazz, Deque<Class<?>> worklist) {
+        List<DocProperty> properties = propertiesOfLevels.get(clazz);
+        if (properties == null) {
+            properties = Collections.unmodifiableList(parsePropertiesOfLevel(clazz, worklist));
+            List<DocProperty> parsedProperties = propertiesOfLevels.putIfAbsent(clazz, properties);
+            if (parsedProperties != null) {
+                properties = parsedProperties;
             }
-            if (clazz.isAnnotationPresent(JsonPropertyOrder.class)) {
-                JsonPropertyOrder propertyOrder = clazz.getAnnotation(JsonPropertyOrder.class);
-                int order = 1;
-                for (String propertyName : propertyOrder.value()) {
-                    DocProperty property = getPropertyByName(propertyName, dataType.getProperties());
-                    if (property != null) {
-                        property.setOrder(order++);
-                    } else {
-                        log.warn("Property " + propertyName + " not found in property list of type " + dataType.getName());
-                    }
+        }
+        return properties;
+    }
 
+    private List<DocProperty> parsePropertiesOfLevel(Class<?> clazz, Deque<Class<?>> worklist) {
+        List<DocProperty> properties = new ArrayList<>();
+        for (BeanProperty descriptor : PropertyScanner.getProperties(clazz)) {
+            Class<?> propertyType = descriptor.getType();
+            Field propertyField = getPropertyField(clazz, descriptor);
+            PropertyDescription propertyDescription = getPropertyDescription(propertyField, descriptor);
+            if (skipThisField(propertyField, propertyDescription, descriptor) || propertyDescription == null) {
+                continue;
+            }
+            DocProperty property = new DocProperty();
+            property.setName(getPropertyName(descriptor, propertyField));
+            property.setOrder(propertyDescription.order());
+            property.setRequired(isFieldRequired(propertyField, propertyDescription));
+            property.setRequest(isForRequest(propertyDescription, descriptor));
+            property.setResponse(isForResponse(propertyDescription, descriptor));
+            property.setDescription(getDescription(propertyField, property, propertyDescription));
+            property.setSample(getSample(propertyField, descriptor));
+            property.setDeprecated(isDeprecated(propertyField, descriptor));
+            property.setType(getPropertyType(propertyType, propertyField, worklist));
+            property.setList(Inspector.isListSetOrArray(propertyType));
+            property.setPrimitive(propertyType.isPrimitive());
+            property.setRequestNullValueSample(allowNullValueSample(descriptor.getWriteMethod()));
+            property.setResponseNullValueSample(allowNullValueSample(descriptor.getReadMethod()));
+            property.setEnumValues(getEnumValues(propertyType, propertyField, propertyDescription));
+            property.setAddEnumValues(propertyDescription.addPossibleEnumValues());
+            if (Inspector.isMap(propertyType)) {
+                property.setMap(true);
+                if (isAnnotationPresent(propertyField, PropertyMapDescription.class)) {
+                    PropertyMapDescription mapDescription = getAnnotation(propertyField, PropertyMapDescription.class);
+                    property.setMapKeyDescription(mapDescription.keyDescription());
+                    property.setMapValueDescription(mapDescription.valueDescription());
                 }
             }
-            Collections.sort(dataType.getProperties());
-            log.debug(dataType.toString());
-        } catch (IntrospectionException e) {
-            throw new RuntimeException(e);
+            properties.add(property);
+            addFurtherVOClasses(propertyType, worklist);
         }
+        return properties;
     }
 
-    private String getPropertyName(PropertyDescriptor descriptor, Field propertyField) {
-        if (propertyField != null && propertyField.isAnnotationPresent(JsonProperty.class)) {
-            return propertyField.getAnnotation(JsonProperty.class).value();
+    private String getPropertyName(BeanProperty descriptor, Field propertyField) {
+        if (propertyField != null && isAnnotationPresent(propertyField, JsonProperty.class)) {
+            return getAnnotation(propertyField, JsonProperty.class).value();
         }
         return descriptor.getName();
     }
 
     private boolean allowNullValueSample(Method method) {
-        if (method != null && method.isAnnotationPresent(JsonSerialize.class)) {
-            JsonSerialize jsonSerialize = method.getAnnotation(JsonSerialize.class);
+        if (method != null && isAnnotationPresent(method, JsonSerialize.class)) {
+            JsonSerialize jsonSerialize = getAnnotation(method, JsonSerialize.class);
             // TODO include modern way
             if (jsonSerialize.include().equals(JsonSerialize.Inclusion.NON_NULL)) {
                 return false;
@@ -171,8 +236,8 @@ public class DataTypeParser {
     }
 
     private boolean allowNullValuesInSample(Class<?> clazz) {
-        if (clazz != null && clazz.isAnnotationPresent(JsonSerialize.class)) {
-            JsonSerialize jsonSerialize = clazz.getAnnotation(JsonSerialize.class);
+        if (clazz != null && isAnnotationPresent(clazz, JsonSerialize.class)) {
+            JsonSerialize jsonSerialize = getAnnotation(clazz, JsonSerialize.class);
             // TODO include modern way
             if (jsonSerialize.include().equals(JsonSerialize.Inclusion.NON_NULL)) {
                 log.debug("Class " + clazz.getSimpleName() + " does not allow null value");
@@ -184,24 +249,25 @@ public class DataTypeParser {
 
 
     private PropertyDescription getPropertyDescription(Method method) {
-        return method != null ? method.getAnnotation(PropertyDescription.class) : null;
+        return method != null ? getAnnotation(method, PropertyDescription.class) : null;
     }
 
-    private DocProperty getPropertyByName(String propertyName, List<DocProperty> properties) {
-        for (DocProperty property : properties) {
-            if (property.getName().equals(propertyName)) {
-                return property;
+    private Map<String, Integer> getPropertyIndexesByName(List<DocProperty> properties) {
+        Map<String, Integer> propertyIndexesByName = new HashMap<>();
+        for (int i = 0; i < properties.size(); i++) {
+            if (!propertyIndexesByName.containsKey(properties.get(i).getName())) {
+                propertyIndexesByName.put(properties.get(i).getName(), i);
             }
         }
-        return null;
+        return propertyIndexesByName;
     }
 
-    private boolean isDeprecated(Field propertyField, PropertyDescriptor property) {
-        if (propertyField != null && propertyField.isAnnotationPresent(Deprecated.class)) {
+    private boolean isDeprecated(Field propertyField, BeanProperty property) {
+        if (propertyField != null && isAnnotationPresent(propertyField, Deprecated.class)) {
             return true;
         }
-        boolean readMethodIsDeprecated = property.getReadMethod() != null && property.getReadMethod().isAnnotationPresent(Deprecated.class);
-        boolean writeMethodIsDeprecated = property.getWriteMethod() != null && property.getWriteMethod().isAnnotationPresent(Deprecated.class);
+        boolean readMethodIsDeprecated = property.getReadMethod() != null && isAnnotationPresent(property.getReadMethod(), Deprecated.class);
+        boolean writeMethodIsDeprecated = property.getWriteMethod() != null && isAnnotationPresent(property.getWriteMethod(), Deprecated.class);
         return readMethodIsDeprecated || writeMethodIsDeprecated;
     }
 
@@ -211,7 +277,7 @@ public class DataTypeParser {
         } else if (propertyType.isEnum()) {
             return getEnumList(propertyType);
         } else if (Inspector.isListSetOrArray(propertyType)) {
-            Class<?> genericClassOfList = Inspector.getGenericClassOfList(propertyType, propertyField.getGenericType());
+            Class<?> genericClassOfList = Inspector.getGenericClassOfList(propertyType, propertyField.getGenericType(), propertyField.getDeclaringClass());
             if (genericClassOfList.isEnum()) {
                 return getEnumList(genericClassOfList);
             }
@@ -219,14 +285,29 @@ public class DataTypeParser {
         return Collections.EMPTY_SET;
     }
 
+    /**
+     * @return The values of the enum, which are built once per enum and shared by all properties of the enum type.
+     */
     private Set<DocEnum> getEnumList(Class<?> propertyType) {
+        Set<DocEnum> enumValues = enumValuesByType.get(propertyType);
+        if (enumValues == null) {
+            enumValues = Collections.unmodifiableSet(createEnumList(propertyType));
+            Set<DocEnum> createdEnumValues = enumValuesByType.putIfAbsent(propertyType, enumValues);
+            if (createdEnumValues != null) {
+                enumValues = createdEnumValues;
+            }
+        }
+        return enumValues;
+    }
+
+    private Set<DocEnum> createEnumList(Class<?> propertyType) {
         Set<DocEnum> enumValues = new TreeSet<>();
         for (Enum<?> enumElement : (Enum[]) propertyType.getEnumConstants()) {
             DocEnum docEnum = new DocEnum();
             try {
                 Field enumField = propertyType.getField(enumElement.toString());
-                if (enumField.isAnnotationPresent(EnumDescription.class)) {
-                    docEnum.setDescription(enumField.getAnnotation(EnumDescription.class).value());
+                if (isAnnotationPresent(enumField, EnumDescription.class)) {
+                    docEnum.setDescription(getAnnotation(enumField, EnumDescription.class).value());
                 }
             } catch (NoSuchFieldException e) {
             }
@@ -237,7 +318,7 @@ public class DataTypeParser {
     }
 
     private boolean isFieldRequired(Field propertyField, PropertyDescription propertyDescription) {
-        if (propertyField != null && (propertyField.isAnnotationPresent(NotNull.class) || propertyField.isAnnotationPresent(NotEmpty.class) || propertyField.isAnnotationPresent(NotBlank.class))) {
+        if (propertyField != null && (isAnnotationPresent(propertyField, NotNull.class) || isAnnotationPresent(propertyField, NotEmpty.class) || isAnnotationPresent(propertyField, NotBlank.class))) {
             return true;
         }
         if (propertyDescription != null) {
@@ -253,19 +334,19 @@ public class DataTypeParser {
         return !clazz.getSuperclass().equals(configuredBaseDTOClass);
     }
 
-    private String getPropertyType(Class<?> propertyType, Field propertyField) {
+    private String getPropertyType(Class<?> propertyType, Field propertyField, Deque<Class<?>> worklist) {
         if (propertyField != null) {
             PropertyDescription propertyDescription = getPropertyDescription(propertyField);
             if (propertyDescription != null && !propertyDescription.type().equals(void.class)) {
-                addFurtherVOClasses(propertyDescription.type());
+                addFurtherVOClasses(propertyDescription.type(), worklist);
                 return propertyDescription.type().getSimpleName();
             }
             if (Inspector.isListSetOrArray(propertyType)) {
-                Class<?> genericClassOfList = Inspector.getGenericClassOfList(propertyType, propertyField.getGenericType());
+                Class<?> genericClassOfList = Inspector.getGenericClassOfList(propertyType, propertyField.getGenericType(), propertyField.getDeclaringClass());
                 if (genericClassOfList.isEnum()) {
                     return "String";
                 }
-                addFurtherVOClasses(genericClassOfList);
+                addFurtherVOClasses(genericClassOfList, worklist);
                 return removeEnd(genericClassOfList.getSimpleName(), config.getDataTypeSuffix());
             }
         }
@@ -281,30 +362,30 @@ public class DataTypeParser {
         return propertyType.getSimpleName();
     }
 
-    private String[] getSample(Field propertyField, PropertyDescriptor descriptor) {
-        if (propertyField != null && propertyField.isAnnotationPresent(Sample.class)) {
-            return propertyField.getAnnotation(Sample.class).value();
+    private String[] getSample(Field propertyField, BeanProperty descriptor) {
+        if (propertyField != null && isAnnotationPresent(propertyField, Sample.class)) {
+            return getAnnotation(propertyField, Sample.class).value();
         }
         Method readMethod = descriptor.getReadMethod();
         Method writeMethod = descriptor.getWriteMethod();
-        if (readMethod != null && readMethod.isAnnotationPresent(Sample.class)) {
-            return readMethod.getAnnotation(Sample.class).value();
+        if (readMethod != null && isAnnotationPresent(readMethod, Sample.class)) {
+            return getAnnotation(readMethod, Sample.class).value();
         }
-        if (writeMethod != null && writeMethod.isAnnotationPresent(Sample.class)) {
-            return writeMethod.getAnnotation(Sample.class).value();
+        if (writeMethod != null && isAnnotationPresent(writeMethod, Sample.class)) {
+            return getAnnotation(writeMethod, Sample.class).value();
         }
         return new String[]{};
     }
 
-    private boolean isForRequest(PropertyDescription propertyDescription, PropertyDescriptor descriptor) {
-        if (descriptor.getWriteMethod() != null && descriptor.getWriteMethod().isAnnotationPresent(JsonIgnore.class)) {
+    private boolean isForRequest(PropertyDescription propertyDescription, BeanProperty descriptor) {
+        if (descriptor.getWriteMethod() != null && isAnnotationPresent(descriptor.getWriteMethod(), JsonIgnore.class)) {
             return false;
         }
         return (!propertyDescription.onlyRequest() && !propertyDescription.onlyResponse()) || propertyDescription.onlyRequest();
     }
 
-    private boolean isForResponse(PropertyDescription propertyDescription, PropertyDescriptor descriptor) {
-        if (descriptor.getReadMethod() != null && descriptor.getReadMethod().isAnnotationPresent(JsonIgnore.class)) {
+    private boolean isForResponse(PropertyDescription propertyDescription, BeanProperty descriptor) {
+        if (descriptor.getReadMethod() != null && isAnnotationPresent(descriptor.getReadMethod(), JsonIgnore.class)) {
             return false;
         }
         return (!propertyDescription.onlyRequest() && !propertyDescription.onlyResponse()) || propertyDescription.onlyResponse();
@@ -313,7 +394,7 @@ public class DataTypeParser {
     private String getDescription(Field propertyField, DocProperty property, PropertyDescription propertyDescription) {
         String description = "";
         if (propertyField != null) {
-            if (propertyField.isAnnotationPresent(PropertyDescription.class)) {
+            if (isAnnotationPresent(propertyField, PropertyDescription.class)) {
                 reporter.addDocumentedField(propertyField.getDeclaringClass(), propertyField.getName());
                 description = propertyDescription.description();
             } else {
@@ -326,18 +407,13 @@ public class DataTypeParser {
     }
 
     private PropertyDescription getPropertyDescription(Field propertyField) {
-        return propertyField.getAnnotation(PropertyDescription.class);
+        return getAnnotation(propertyField, PropertyDescription.class);
     }
 
-    private Field getPropertyField(Class<?> clazz, PropertyDescriptor descriptor) {
-        try {
-            for (Field field : clazz.getDeclaredFields()) {
-                if (field.getName().equals(descriptor.getName())) {
-                    return field;
-                }
-            }
-        } catch (Exception e) {
-            log.debug(e.getMessage());
+    private Field getPropertyField(Class<?> clazz, BeanProperty descriptor) {
+        Field field = ClassMetadata.of(clazz).getDeclaredField(descriptor.getName());
+        if (field != null) {
+            return field;
         }
         if (!descriptor.getName().equals("class")) {
             log.debug("ERROR: Could not find field for descriptor " + descriptor.getName() + " in class " + clazz.getSimpleName());
@@ -345,9 +421,9 @@ public class DataTypeParser {
         return null;
     }
 
-    private void addFurtherVOClasses(Class<?> voClass) {
-        if (isClassInstanceOfBaseVO(voClass)) {
-            addDataType(voClass);
+    private void addFurtherVOClasses(Class<?> voClass, Deque<Class<?>> worklist) {
+        if (isClassInstanceOfBaseVO(voClass) && !parsedDataTypes.containsKey(voClass)) {
+            worklist.add(voClass);
         }
     }
 
@@ -378,16 +454,16 @@ public class DataTypeParser {
         return clazz.getSuperclass();
     }
 
-    private boolean skipThisField(Field propertyField, PropertyDescription propertyDescription, PropertyDescriptor descriptor) {
-        if (propertyField != null && propertyField.isAnnotationPresent(IgnoreForDocumentation.class)) {
+    private boolean skipThisField(Field propertyField, PropertyDescription propertyDescription, BeanProperty descriptor) {
+        if (propertyField != null && isAnnotationPresent(propertyField, IgnoreForDocumentation.class)) {
             reporter.addIgnoredField(propertyField.getDeclaringClass(), propertyField.getName());
             return true;
         }
         if (propertyDescription == null && propertyField != null) {
             Method readMethod = descriptor.getReadMethod();
             Method writeMethod = descriptor.getWriteMethod();
-            if (readMethod != null && readMethod.isAnnotationPresent(JsonIgnore.class)) {
-                if (writeMethod != null && writeMethod.isAnnotationPresent(JsonProperty.class)) {
+            if (readMethod != null && isAnnotationPresent(readMethod, JsonIgnore.class)) {
+                if (writeMethod != null && isAnnotationPresent(writeMethod, JsonProperty.class)) {
                     reporter.addUndocumentedField(readMethod != null ? readMethod.getDeclaringClass() : writeMethod.getDeclaringClass(), descriptor.getName());
                 } else {
                     reporter.addIgnoredField(readMethod != null ? readMethod.getDeclaringClass() : writeMethod.getDeclaringClass(), descriptor.getName());
@@ -401,7 +477,7 @@ public class DataTypeParser {
         return false;
     }
 
-    private PropertyDescription getPropertyDescription(Field propertyField, PropertyDescriptor descriptor) {
+    private PropertyDescription getPropertyDescription(Field propertyField, BeanProperty descriptor) {
         PropertyDescription propertyDescription = null;
         if (propertyField == null) {
             Method readMethod = descriptor.getReadMethod();
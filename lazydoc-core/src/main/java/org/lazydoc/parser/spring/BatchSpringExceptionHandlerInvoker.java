@@ -0,0 +1,26 @@
+package org.lazydoc.parser.spring;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+/**
+ * Invoker which reads the error messages of all exception handlers declared in a controller class in one call.
+ */
+public interface BatchSpringExceptionHandlerInvoker extends SpringExceptionHandlerInvoker {
+
+	/**
+	 * @param exceptionHandlers The exception handler methods declared in one controller class.
+	 * @return The error messages by exception handler method. Handlers missing in the result get an empty message.
+	 */
+	public abstract Map<Method, String> getErrorMessagesFromExceptionHandlers(Map<Method, ExceptionHandler> exceptionHandlers,
+			Object controllerInstance);
+
+	/**
+	 * @return False if the invoker does not run the exception handlers, so no controller has to be instantiated
+	 * and the controller instance passed to the invoker is null.
+	 */
+	public abstract boolean isControllerInstanceRequired();
+
+}
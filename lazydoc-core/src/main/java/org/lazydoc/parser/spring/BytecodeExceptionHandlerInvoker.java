@@ -0,0 +1,82 @@
+package org.lazydoc.parser.spring;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.lazydoc.scanner.ReturnedConstantsReader;
+import org.lazydoc.util.Inspector;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.*;
+
+/**
+ * Reads the error messages of exception handlers from their bytecode instead of running them. The message is made
+ * of the string literals and constants like enum values passed to the returned object or {@code ResponseEntity},
+ * so no controller is instantiated and no code of the documented application is run. HTTP status constants are
+ * not part of the message. Handlers which are not straight line code get an empty message.
+ */
+public class BytecodeExceptionHandlerInvoker implements BatchSpringExceptionHandlerInvoker {
+
+    private static final Logger log = LogManager.getLogger(BytecodeExceptionHandlerInvoker.class);
+
+    private static final Set<String> IGNORED_CONSTANT_OWNERS = new HashSet<>(Collections.singletonList("org.springframework.http.HttpStatus"));
+
+    @Override
+    public String getErrorMessageFromExceptionHandler(Method method, Object controllerInstance, ExceptionHandler exceptionHandler) {
+        String errorMessage = getErrorMessagesFromExceptionHandlers(Collections.singletonMap(method, exceptionHandler), controllerInstance).get(method);
+        return errorMessage != null ? errorMessage : "";
+    }
+
+    @Override
+    public Map<Method, String> getErrorMessagesFromExceptionHandlers(Map<Method, ExceptionHandler> exceptionHandlers, Object controllerInstance) {
+        Map<Class<?>, List<Method>> methodsByClass = new LinkedHashMap<>();
+        for (Method method : exceptionHandlers.keySet()) {
+            List<Method> methods = methodsByClass.get(method.getDeclaringClass());
+            if (methods == null) {
+                methods = new ArrayList<>();
+                methodsByClass.put(method.getDeclaringClass(), methods);
+            }
+            methods.add(method);
+        }
+        Map<Method, String> errorMessages = new HashMap<>();
+        for (Map.Entry<Class<?>, List<Method>> entry : methodsByClass.entrySet()) {
+            Map<String, Method> methodsBySignature = new HashMap<>();
+            for (Method method : entry.getValue()) {
+                methodsBySignature.put(ReturnedConstantsReader.getSignature(method), method);
+            }
+            Map<String, List<String>> returnedConstants = ReturnedConstantsReader.read(getClassFile(entry.getKey()),
+                    methodsBySignature.keySet(), IGNORED_CONSTANT_OWNERS);
+            for (Map.Entry<String, Method> method : methodsBySignature.entrySet()) {
+                List<String> constants = returnedConstants.get(method.getKey());
+                if (constants == null) {
+                    log.debug("Could not read the error message of exception handler " + method.getValue());
+                    continue;
+                }
+                errorMessages.put(method.getValue(), StringUtils.join(constants, ", "));
+            }
+        }
+        return errorMessages;
+    }
+
+    @Override
+    public boolean isControllerInstanceRequired() {
+        return false;
+    }
+
+    private byte[] getClassFile(Class<?> type) {
+        ClassLoader classLoader = type.getClassLoader() != null ? type.getClassLoader() : Inspector.getClassLoader();
+        String resourceName = type.getName().replace('.', '/') + ".class";
+        try (InputStream inputStream = classLoader.getResourceAsStream(resourceName)) {
+            if (inputStream == null) {
+                throw new RuntimeException("Class file of " + type.getName() + " not found");
+            }
+            return IOUtils.toByteArray(inputStream);
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading class file of " + type.getName(), e);
+        }
+    }
+}
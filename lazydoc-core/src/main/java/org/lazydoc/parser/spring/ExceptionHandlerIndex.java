@@ -0,0 +1,254 @@
+package org.lazydoc.parser.spring;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.lazydoc.annotation.ErrorDescription;
+import org.lazydoc.model.DocError;
+import org.lazydoc.reporter.DocumentationReporter;
+import org.lazydoc.util.ClassMetadata;
+import org.lazydoc.util.InstancePool;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.lazydoc.util.ClassMetadata.getAnnotation;
+
+/**
+ * Index of the exception handlers of the controller hierarchies. The handlers of every class are indexed once by
+ * the exceptions they handle, so the levels of a common base controller are shared by all of its subclasses. The
+ * error of a handler is resolved and reported on its first lookup and reused afterwards. An error message which is
+ * read from the handler on a controller instance is read once per controller class, because the handler may depend
+ * on the state of the controller.
+ */
+public class ExceptionHandlerIndex {
+
+    private static final Logger log = LogManager.getLogger(ExceptionHandlerIndex.class);
+
+    public interface ErrorMessageResolver {
+
+        /**
+         * @return The error message of the exception handler. The controller instance must only be requested if
+         * the message is read from the handler itself.
+         */
+        String getErrorMessage(Method method, ControllerInstance controllerInstance, ExceptionHandler exceptionHandler);
+
+        /**
+         * @return False if the error message does not depend on the controller instance, so it is shared by all
+         * controllers of the hierarchy.
+         */
+        boolean isControllerInstanceRequired();
+    }
+
+    private final DocumentationReporter reporter;
+    private final ErrorMessageResolver errorMessageResolver;
+    private final ConcurrentMap<Class<?>, Level> levels = new ConcurrentHashMap<>();
+
+    public ExceptionHandlerIndex(DocumentationReporter reporter, ErrorMessageResolver errorMessageResolver) {
+        this.reporter = reporter;
+        this.errorMessageResolver = errorMessageResolver;
+    }
+
+    /**
+     * @return The errors of the exception handlers from the top of the hierarchy down to the controller, which
+     * handle one of the exceptions. All handlers are taken if no exceptions are provided.
+     */
+    public Set<DocError> getErrors(Class<?> controller, Class<?> stopAtController, ControllerInstance controllerInstance,
+                                   List<Class<?>> exceptionList) {
+        Deque<Class<?>> hierarchy = new ArrayDeque<>();
+        for (Class<?> level = controller; level != null && !level.equals(Object.class) && !level.equals(stopAtController);
+             level = level.getSuperclass()) {
+            hierarchy.push(level);
+        }
+        Set<DocError> result = new TreeSet<>();
+        for (Class<?> levelClass : hierarchy) {
+            log.debug("Inspecting error handler in controller class " + levelClass.getSimpleName());
+            Level level = getLevel(levelClass);
+            for (Handler handler : level.getHandlers(exceptionList)) {
+                DocError error = handler.getError(controllerInstance);
+                if (error != null) {
+                    result.add(error);
+                }
+            }
+        }
+        return result;
+    }
+
+    private Level getLevel(Class<?> levelClass) {
+        Level level = levels.get(levelClass);
+        if (level == null) {
+            Level newLevel = new Level(levelClass);
+            level = levels.putIfAbsent(levelClass, newLevel);
+            if (level == null) {
+                level = newLevel;
+            }
+        }
+        return level;
+    }
+
+    /**
+     * The exception handlers declared in one class of a controller hierarchy.
+     */
+    private class Level {
+
+        private final List<Handler> handlers = new ArrayList<>();
+        private final Map<String, BitSet> handlersByException = new HashMap<>();
+
+        private Level(Class<?> levelClass) {
+            for (Method method : ClassMetadata.of(levelClass).getDeclaredMethods()) {
+                ExceptionHandler exceptionHandler = getAnnotation(method, ExceptionHandler.class);
+                if (exceptionHandler == null) {
+                    continue;
+                }
+                for (Class<? extends Throwable> exception : exceptionHandler.value()) {
+                    BitSet handlerIndexes = handlersByException.get(exception.getName());
+                    if (handlerIndexes == null) {
+                        handlerIndexes = new BitSet();
+                        handlersByException.put(exception.getName(), handlerIndexes);
+                    }
+                    handlerIndexes.set(handlers.size());
+                }
+                handlers.add(new Handler(levelClass, method, exceptionHandler));
+            }
+        }
+
+        private List<Handler> getHandlers(List<Class<?>> exceptionList) {
+            if (exceptionList == null || exceptionList.isEmpty()) {
+                return handlers;
+            }
+            BitSet matching = new BitSet();
+            for (Class<?> exception : exceptionList) {
+                BitSet handlerIndexes = handlersByException.get(exception.getName());
+                if (handlerIndexes != null) {
+                    matching.or(handlerIndexes);
+                }
+            }
+            List<Handler> matchingHandlers = new ArrayList<>(matching.cardinality());
+            for (int i = matching.nextSetBit(0); i >= 0; i = matching.nextSetBit(i + 1)) {
+                matchingHandlers.add(handlers.get(i));
+            }
+            return matchingHandlers;
+        }
+    }
+
+    private class Handler {
+
+        private final Class<?> controller;
+        private final Method method;
+        private final ExceptionHandler exceptionHandler;
+        private final ConcurrentMap<Class<?>, ControllerError> errorsByController = new ConcurrentHashMap<>();
+        private boolean resolved;
+        private DocError error;
+
+        private Handler(Class<?> controller, Method method, ExceptionHandler exceptionHandler) {
+            this.controller = controller;
+            this.method = method;
+            this.exceptionHandler = exceptionHandler;
+        }
+
+        /**
+         * @return The error of the handler or null if the handler is ignored for the documentation.
+         */
+        private DocError getError(ControllerInstance controllerInstance) {
+            DocError describedError = getDescribedError();
+            if (describedError == null || StringUtils.isNotEmpty(describedError.getErrorCode())) {
+                return describedError;
+            }
+            Class<?> errorController = errorMessageResolver.isControllerInstanceRequired() ? controllerInstance.getController() : controller;
+            ControllerError controllerError = errorsByController.get(errorController);
+            if (controllerError == null) {
+                ControllerError newControllerError = new ControllerError(describedError);
+                controllerError = errorsByController.putIfAbsent(errorController, newControllerError);
+                if (controllerError == null) {
+                    controllerError = newControllerError;
+                }
+            }
+            return controllerError.getError(controllerInstance);
+        }
+
+        /**
+         * @return The error described by the annotations of the handler, which has no error message if it has to be
+         * read from the handler, or null if the handler is ignored.
+         */
+        private synchronized DocError getDescribedError() {
+            if (!resolved) {
+                error = describeError();
+                resolved = true;
+            }
+            return error;
+        }
+
+        private DocError describeError() {
+            log.debug("Inspecting exception handler " + method.getName());
+            HttpStatus httpStatus = HttpStatus.INTERNAL_SERVER_ERROR;
+            ResponseStatus responseStatus = getAnnotation(method, ResponseStatus.class);
+            if (responseStatus != null) {
+                httpStatus = responseStatus.value();
+            }
+            String errorMessage = "";
+            String description = httpStatus.getReasonPhrase();
+            ErrorDescription errorDescription = getAnnotation(method, ErrorDescription.class);
+            if (errorDescription != null) {
+                if (errorDescription.ignore()) {
+                    reporter.addIgnoredErrorHandler(controller, method.toString());
+                    return null;
+                }
+                reporter.addDocumentedErrorHandler(controller, method.toString());
+                errorMessage = errorDescription.detail();
+                description = errorDescription.description();
+            } else {
+                reporter.addUndocumentedErrorHandler(controller, method.toString());
+            }
+            return new DocError(httpStatus.value(), errorMessage, description);
+        }
+
+        /**
+         * The error of the handler with the error message read from the handler for one controller class.
+         */
+        private class ControllerError {
+
+            private final DocError describedError;
+            private DocError error;
+
+            private ControllerError(DocError describedError) {
+                this.describedError = describedError;
+            }
+
+            private synchronized DocError getError(ControllerInstance controllerInstance) {
+                if (error == null) {
+                    String errorMessage = errorMessageResolver.getErrorMessage(method, controllerInstance, exceptionHandler);
+                    error = new DocError(describedError.getStatusCode(), errorMessage, describedError.getDescription());
+                }
+                return error;
+            }
+        }
+    }
+
+    /**
+     * The controller instance handed to the exception handler invoker, which is only taken from the pool when it is
+     * requested.
+     */
+    public static class ControllerInstance {
+
+        private final InstancePool instancePool;
+        private final Class<?> controller;
+
+        public ControllerInstance(InstancePool instancePool, Class<?> controller) {
+            this.instancePool = instancePool;
+            this.controller = controller;
+        }
+
+        public Object get() {
+            return instancePool.getInstance(controller);
+        }
+
+        public Class<?> getController() {
+            return controller;
+        }
+    }
+}
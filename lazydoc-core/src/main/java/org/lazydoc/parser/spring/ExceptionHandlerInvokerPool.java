@@ -0,0 +1,151 @@
+package org.lazydoc.parser.spring;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.lazydoc.parser.spring.ExceptionHandlerIndex.ControllerInstance;
+import org.lazydoc.util.ClassMetadata;
+import org.lazydoc.util.Inspector;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.lazydoc.util.ClassMetadata.getAnnotation;
+
+/**
+ * Runs the configured exception handler invoker on a bounded pool. The invoker is created once per run and every
+ * invocation is limited by a timeout, so a hanging exception handler only costs its own error message. A
+ * {@link BatchSpringExceptionHandlerInvoker} is called once per controller class with all of its exception handlers,
+ * once per class for every controller class it is invoked on if it requires the controller instance.
+ */
+public class ExceptionHandlerInvokerPool implements AutoCloseable {
+
+    private static final Logger log = LogManager.getLogger(ExceptionHandlerInvokerPool.class);
+
+    private final SpringExceptionHandlerInvoker invoker;
+    private final ExecutorService executor;
+    private final long timeoutMillis;
+    private final ConcurrentMap<List<Class<?>>, FutureTask<Map<Method, String>>> batches = new ConcurrentHashMap<>();
+
+    public ExceptionHandlerInvokerPool(SpringExceptionHandlerInvoker invoker, int threads, long timeoutMillis) {
+        this.invoker = invoker;
+        this.timeoutMillis = timeoutMillis;
+        this.executor = Executors.newFixedThreadPool(threads, new InvokerThreadFactory(Inspector.getClassLoader()));
+    }
+
+    /**
+     * @return False if a batch invoker does not run the exception handlers, so the error messages do not depend on
+     * the controller instance.
+     */
+    public boolean isControllerInstanceRequired() {
+        return !(invoker instanceof BatchSpringExceptionHandlerInvoker) || ((BatchSpringExceptionHandlerInvoker) invoker).isControllerInstanceRequired();
+    }
+
+    /**
+     * @return The error message of the exception handler or an empty message if the invocation timed out.
+     */
+    public String getErrorMessage(final Method method, final ControllerInstance controllerInstance, final ExceptionHandler exceptionHandler) {
+        if (invoker instanceof BatchSpringExceptionHandlerInvoker) {
+            Map<Method, String> errorMessages = getBatch(method.getDeclaringClass(), controllerInstance);
+            String errorMessage = errorMessages != null ? errorMessages.get(method) : null;
+            return errorMessage != null ? errorMessage : "";
+        }
+        Future<String> invocation = executor.submit(new Callable<String>() {
+            @Override
+            public String call() {
+                return invoker.getErrorMessageFromExceptionHandler(method, controllerInstance.get(), exceptionHandler);
+            }
+        });
+        String errorMessage = await(invocation, method.toString());
+        return errorMessage != null ? errorMessage : "";
+    }
+
+    private Map<Method, String> getBatch(final Class<?> controller, final ControllerInstance controllerInstance) {
+        List<Class<?>> key = isControllerInstanceRequired()
+                ? Arrays.<Class<?>>asList(controller, controllerInstance.getController()) : Collections.<Class<?>>singletonList(controller);
+        FutureTask<Map<Method, String>> batch = batches.get(key);
+        if (batch == null) {
+            FutureTask<Map<Method, String>> newBatch = new FutureTask<>(new Callable<Map<Method, String>>() {
+                @Override
+                public Map<Method, String> call() {
+                    BatchSpringExceptionHandlerInvoker batchInvoker = (BatchSpringExceptionHandlerInvoker) invoker;
+                    return batchInvoker.getErrorMessagesFromExceptionHandlers(getExceptionHandlers(controller),
+                            batchInvoker.isControllerInstanceRequired() ? controllerInstance.get() : null);
+                }
+            });
+            batch = batches.putIfAbsent(key, newBatch);
+            if (batch == null) {
+                batch = newBatch;
+                executor.execute(batch);
+            }
+        }
+        return await(batch, "exception handlers of " + controller.getName());
+    }
+
+    private Map<Method, ExceptionHandler> getExceptionHandlers(Class<?> controller) {
+        Map<Method, ExceptionHandler> exceptionHandlers = new LinkedHashMap<>();
+        for (Method method : ClassMetadata.of(controller).getDeclaredMethods()) {
+            ExceptionHandler exceptionHandler = getAnnotation(method, ExceptionHandler.class);
+            if (exceptionHandler != null) {
+                exceptionHandlers.put(method, exceptionHandler);
+            }
+        }
+        return exceptionHandlers;
+    }
+
+    /**
+     * @return The result of the invocation or null if it timed out. A timed out invocation is cancelled, so
+     * everyone else waiting for it gives up immediately.
+     */
+    private <T> T await(Future<T> invocation, String invoked) {
+        try {
+            return invocation.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            invocation.cancel(true);
+            log.warn("Exception handler invoker timed out after " + timeoutMillis + "ms reading " + invoked);
+            return null;
+        } catch (CancellationException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while invoking " + invoked, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new RuntimeException("Error invoking " + invoked, e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private static class InvokerThreadFactory implements ThreadFactory {
+
+        private final ClassLoader classLoader;
+        private final AtomicInteger count = new AtomicInteger();
+
+        InvokerThreadFactory(ClassLoader classLoader) {
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "lazydoc-invoker-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        }
+    }
+}
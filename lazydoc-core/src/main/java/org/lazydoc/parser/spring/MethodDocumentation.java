@@ -0,0 +1,153 @@
+package org.lazydoc.parser.spring;
+
+import org.apache.commons.lang3.StringUtils;
+import org.lazydoc.annotation.*;
+import org.lazydoc.parser.exception.UndocumentedMethodException;
+import org.lazydoc.util.ClassMetadata;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.lang.reflect.Method;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+import static org.lazydoc.util.ClassMetadata.getAnnotation;
+
+/**
+ * The documentation of a controller method, resolved once from the method and its counterpart in the documentation
+ * class. Missing documentation is only reported when the corresponding part is requested, so that the parser fails
+ * at the same step as it would reading the annotations directly.
+ */
+public class MethodDocumentation {
+
+    private final Method method;
+    private final Method documentedMethod;
+    private final boolean requestMapping;
+    private final IgnoreForDocumentation ignoreForDocumentation;
+    private final Date ignoreDocumentationUntil;
+    private final ParseException ignoreDocumentationUntilException;
+    private final DomainDescription domainDescription;
+    private final OperationDescription operationDescription;
+    private final ParameterDescription parameterDescription;
+    private final ResponseDescription responseDescription;
+    private final ErrorDescriptions errorDescriptions;
+
+    /**
+     * @param documentation The documentation class of the controller, which is the controller itself when no
+     *                      documentation suffix is configured.
+     */
+    public MethodDocumentation(Method method, Class<?> documentation) {
+        this.method = method;
+        this.documentedMethod = documentation == method.getDeclaringClass() ? method
+                : ClassMetadata.of(documentation).getDeclaredMethod(method.getName(), method.getParameterTypes());
+        this.requestMapping = ClassMetadata.isAnnotationPresent(method, RequestMapping.class);
+        this.domainDescription = findDomainDescription();
+        if (documentedMethod != null) {
+            ignoreForDocumentation = getAnnotation(documentedMethod, IgnoreForDocumentation.class);
+            operationDescription = getAnnotation(documentedMethod, OperationDescription.class);
+            parameterDescription = getAnnotation(documentedMethod, ParameterDescription.class);
+            responseDescription = getAnnotation(documentedMethod, ResponseDescription.class);
+            errorDescriptions = getAnnotation(documentedMethod, ErrorDescriptions.class);
+        } else {
+            ignoreForDocumentation = null;
+            operationDescription = null;
+            parameterDescription = null;
+            responseDescription = null;
+            errorDescriptions = null;
+        }
+        Date ignoreUntil = null;
+        ParseException ignoreUntilException = null;
+        if (ignoreForDocumentation != null && StringUtils.isNotBlank(ignoreForDocumentation.ignoreDocumentationUntil())) {
+            try {
+                ignoreUntil = new SimpleDateFormat("dd.MM.yyyy").parse(ignoreForDocumentation.ignoreDocumentationUntil());
+            } catch (ParseException e) {
+                ignoreUntilException = e;
+            }
+        }
+        this.ignoreDocumentationUntil = ignoreUntil;
+        this.ignoreDocumentationUntilException = ignoreUntilException;
+    }
+
+    private DomainDescription findDomainDescription() {
+        DomainDescription description = getAnnotation(method, DomainDescription.class);
+        if (description == null) {
+            description = getAnnotation(method.getDeclaringClass(), DomainDescription.class);
+        }
+        if (description == null && documentedMethod != null) {
+            description = getAnnotation(documentedMethod, DomainDescription.class);
+            if (description == null) {
+                description = getAnnotation(documentedMethod.getDeclaringClass(), DomainDescription.class);
+            }
+        }
+        return description;
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public Method getDocumentedMethod() {
+        return documentedMethod;
+    }
+
+    public boolean hasRequestMapping() {
+        return requestMapping;
+    }
+
+    public boolean isIgnoredForDocumentation() {
+        if (documentedMethod == null) {
+            if (requestMapping) {
+                throw new UndocumentedMethodException("No documented method " + method.getName() + " found. Maybe signature has changed?");
+            }
+            return true;
+        }
+        if (ignoreForDocumentation == null) {
+            return false;
+        }
+        if (StringUtils.isBlank(ignoreForDocumentation.ignoreDocumentationUntil())) {
+            return true;
+        }
+        if (ignoreDocumentationUntilException != null) {
+            throw new RuntimeException("The ignoreStartDate has the wrong format, should be 'dd.MM.yyyy'", ignoreDocumentationUntilException);
+        }
+        if (new Date().before(ignoreDocumentationUntil)) {
+            return true;
+        }
+        throw new RuntimeException("The ignore date is expired, please document the method " + method.toString());
+    }
+
+    public DomainDescription getDomainDescription() {
+        if (domainDescription == null) {
+            throw new RuntimeException("No domain description found in controller");
+        }
+        return domainDescription;
+    }
+
+    public OperationDescription getOperationDescription() {
+        if (operationDescription == null) {
+            throw new UndocumentedMethodException("No Operation description found at method " + method.toString());
+        }
+        return operationDescription;
+    }
+
+    public ParameterDescription getParameterDescription() {
+        if (parameterDescription == null) {
+            throw new UndocumentedMethodException("No parameter description found at method " + method.getName());
+        }
+        return parameterDescription;
+    }
+
+    /**
+     * @return The response description or null if the response is not described.
+     */
+    public ResponseDescription getResponseDescription() {
+        return responseDescription;
+    }
+
+    /**
+     * @return The error descriptions or null if the errors are taken from the exception handlers.
+     */
+    public ErrorDescriptions getErrorDescriptions() {
+        return errorDescriptions;
+    }
+}
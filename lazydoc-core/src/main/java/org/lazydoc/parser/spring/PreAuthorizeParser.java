@@ -0,0 +1,81 @@
+package org.lazydoc.parser.spring;
+
+import org.lazydoc.model.DocAuthorization;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parses the security expressions of {@link org.springframework.security.access.prepost.PreAuthorize} into
+ * {@link DocAuthorization}s. The roles are only read from an expression which is a single call of hasRole,
+ * hasAnyRole, hasAuthority or hasAnyAuthority with string literals as arguments, so any of the roles grants access.
+ * Every other expression, like permitAll, isAuthenticated(), expressions combined with and, or and not or
+ * concatenated arguments, has no roles and is documented as it is.
+ * Every expression is parsed once per run, operations with the same expression share the authorization.
+ */
+class PreAuthorizeParser {
+
+    private static final Pattern ROLE_FUNCTION = Pattern.compile("\\s*(?:hasRole|hasAnyRole|hasAuthority|hasAnyAuthority)\\s*\\(");
+
+    private final ConcurrentMap<String, DocAuthorization> authorizations = new ConcurrentHashMap<>();
+
+    DocAuthorization parse(String expression) {
+        DocAuthorization authorization = authorizations.get(expression);
+        if (authorization == null) {
+            authorization = new DocAuthorization(expression, getRoles(expression));
+            DocAuthorization parsedAuthorization = authorizations.putIfAbsent(expression, authorization);
+            if (parsedAuthorization != null) {
+                authorization = parsedAuthorization;
+            }
+        }
+        return authorization;
+    }
+
+    private static List<String> getRoles(String expression) {
+        Matcher matcher = ROLE_FUNCTION.matcher(expression);
+        if (!matcher.lookingAt()) {
+            return Collections.emptyList();
+        }
+        List<String> roles = new ArrayList<>();
+        int position = matcher.end();
+        while (true) {
+            position = skipWhitespace(expression, position);
+            if (position == expression.length()) {
+                return Collections.emptyList();
+            }
+            char quote = expression.charAt(position);
+            int end = expression.indexOf(quote, position + 1);
+            if ((quote != '\'' && quote != '"') || end < 0) {
+                return Collections.emptyList();
+            }
+            roles.add(expression.substring(position + 1, end));
+            position = skipWhitespace(expression, end + 1);
+            if (position == expression.length()) {
+                return Collections.emptyList();
+            }
+            if (expression.charAt(position) == ')') {
+                break;
+            }
+            if (expression.charAt(position) != ',') {
+                return Collections.emptyList();
+            }
+            position++;
+        }
+        if (skipWhitespace(expression, position + 1) != expression.length()) {
+            return Collections.emptyList();
+        }
+        return roles;
+    }
+
+    private static int skipWhitespace(String expression, int position) {
+        while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+}
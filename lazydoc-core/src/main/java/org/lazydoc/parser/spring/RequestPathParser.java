@@ -0,0 +1,66 @@
+package org.lazydoc.parser.spring;
+
+import org.apache.commons.lang3.StringUtils;
+import org.lazydoc.model.DocPath;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Parses request mappings into {@link DocPath}s. The path of the controller is parsed once and the paths of its
+ * methods are appended to it.
+ */
+class RequestPathParser {
+
+    static DocPath parseControllerPath(String requestMapping) {
+        return parse("", Collections.<String>emptyList(), Collections.<String>emptyList(), requestMapping);
+    }
+
+    /**
+     * A path ends with a slash if the method mapping does or if it is empty, like the concatenated mappings did.
+     */
+    static DocPath parseMethodPath(DocPath controllerPath, String requestMapping) {
+        return parse(controllerPath.getPath(), controllerPath.getSegments(), controllerPath.getPathVariables(), requestMapping);
+    }
+
+    private static DocPath parse(String prefix, List<String> prefixSegments, List<String> prefixPathVariables, String requestMapping) {
+        List<String> segments = new ArrayList<>(prefixSegments);
+        List<String> pathVariables = new ArrayList<>(prefixPathVariables);
+        for (String segment : StringUtils.split(requestMapping, '/')) {
+            segments.add(segment);
+            addPathVariables(segment, pathVariables);
+        }
+        return new DocPath(prefix, segments, pathVariables, requestMapping.isEmpty() || requestMapping.endsWith("/"));
+    }
+
+    /**
+     * Finds the variables in a segment like {name} or {name:regex}. The braces of a regex are skipped, the name of
+     * the variable is the part before the colon.
+     */
+    private static void addPathVariables(String segment, List<String> pathVariables) {
+        int start = segment.indexOf('{');
+        while (start >= 0) {
+            int depth = 0;
+            int end = -1;
+            for (int i = start; i < segment.length() && end < 0; i++) {
+                char c = segment.charAt(i);
+                if (c == '{') {
+                    depth++;
+                } else if (c == '}' && --depth == 0) {
+                    end = i;
+                }
+            }
+            if (end < 0) {
+                return;
+            }
+            String variable = segment.substring(start + 1, end);
+            int colon = variable.indexOf(':');
+            String name = colon >= 0 ? variable.substring(0, colon) : variable;
+            if (!name.isEmpty()) {
+                pathVariables.add(name);
+            }
+            start = segment.indexOf('{', end + 1);
+        }
+    }
+}
@@ -5,28 +5,35 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.lazydoc.annotation.*;
 import org.lazydoc.config.Config;
+import org.lazydoc.config.RunContext;
 import org.lazydoc.model.*;
 import org.lazydoc.parser.DataTypeParser;
 import org.lazydoc.parser.exception.UndocumentedMethodException;
+import org.lazydoc.parser.spring.ExceptionHandlerIndex.ControllerInstance;
 import org.lazydoc.reporter.DocumentationReporter;
+import org.lazydoc.scanner.ClassFileScanIndex;
+import org.lazydoc.scanner.ClassFileScanner;
+import org.lazydoc.scanner.ControllerIndexReader;
+import org.lazydoc.util.ClassMetadata;
 import org.lazydoc.util.Inspector;
-import org.lazydoc.util.InstanceCreator;
-import org.reflections.Reflections;
+import org.lazydoc.util.InstancePool;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.File;
+import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.apache.commons.lang3.StringUtils.removeEnd;
+import static org.lazydoc.util.ClassMetadata.getAnnotation;
+import static org.lazydoc.util.ClassMetadata.isAnnotationPresent;
 
 public class SpringParser {
 
@@ -38,70 +45,238 @@ public class SpringParser {
     private Map<Integer, DocDomain> domains = new TreeMap<>();
     private Set<DocError> listOfCommonErrors = new TreeSet<>();
     private Config config;
+    private RunContext runContext;
+    private ExceptionHandlerIndex exceptionHandlerIndex;
+    private ExceptionHandlerInvokerPool exceptionHandlerInvokerPool;
+    private InstancePool instancePool;
+    private PreAuthorizeParser preAuthorizeParser = new PreAuthorizeParser();
 
-    public SpringParser(Config config, DocumentationReporter reporter,
+    public SpringParser(RunContext runContext, DocumentationReporter reporter,
                         DataTypeParser dataTypeParser) {
         super();
-        this.config = config;
+        this.runContext = runContext;
+        this.config = runContext.getConfig();
         this.reporter = reporter;
         this.dataTypeParser = dataTypeParser;
+        this.instancePool = new InstancePool(config.isRunControllerConstructors());
+        this.exceptionHandlerIndex = new ExceptionHandlerIndex(reporter, new ExceptionHandlerIndex.ErrorMessageResolver() {
+            @Override
+            public String getErrorMessage(Method method, ControllerInstance controllerInstance, ExceptionHandler exceptionHandler) {
+                return getErrorMessageFromExceptionHandler(method, controllerInstance, exceptionHandler);
+            }
+
+            @Override
+            public boolean isControllerInstanceRequired() {
+                return exceptionHandlerInvokerPool != null && exceptionHandlerInvokerPool.isControllerInstanceRequired();
+            }
+        });
     }
 
 
     public void parseSpringControllers() {
-        if (StringUtils.isNotBlank(config.getAbstractControllerClassForCommonExceptionHandlers())) {
+        exceptionHandlerInvokerPool = createExceptionHandlerInvokerPool();
+        try {
             addCommonListOfPossibleErrors();
+            List<Class<?>> controllers = new ArrayList<>();
+            for (Class<?> subType : getAllRestfulControllerClasses()) {
+                if (!Modifier.isAbstract(subType.getModifiers())) {
+                    controllers.add(subType);
+                }
+            }
+            extractControllers(controllers);
+        } finally {
+            if (exceptionHandlerInvokerPool != null) {
+                exceptionHandlerInvokerPool.close();
+                exceptionHandlerInvokerPool = null;
+            }
+        }
+    }
+
+    private ExceptionHandlerInvokerPool createExceptionHandlerInvokerPool() {
+        if (runContext.getExceptionHandlerInvokerClass() == null) {
+            return null;
         }
-        for (Class<?> subType : getAllRestfulControllerClasses()) {
-            if (!Modifier.isAbstract(subType.getModifiers())) {
-                extractControllerDetails(new TreeSet<String>(), subType);
+        SpringExceptionHandlerInvoker invoker;
+        try {
+            invoker = (SpringExceptionHandlerInvoker) runContext.getExceptionHandlerInvokerClass().newInstance();
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new RuntimeException("Error invoking ExceptionHandlerInvoker " + config.getExceptionHandlerInvoker(), e);
+        }
+        int threads = config.getExceptionHandlerInvokerThreads() > 0 ? config.getExceptionHandlerInvokerThreads() : getParserParallelism();
+        return new ExceptionHandlerInvokerPool(invoker, threads, config.getExceptionHandlerInvokerTimeoutMillis());
+    }
+
+    /**
+     * Extracts the operations of the controllers in parallel. The results are merged into the domains in the order
+     * of the controllers, so that the domains are the same as in a serial run.
+     */
+    private void extractControllers(List<Class<?>> controllers) {
+        int parallelism = getParserParallelism();
+        if (parallelism == 1 || controllers.size() < 2) {
+            for (Class<?> controller : controllers) {
+                addControllerToDomains(extractControllerDetails(controller));
             }
+            return;
         }
+        ForkJoinPool pool = new ForkJoinPool(parallelism, new ParserThreadFactory(Inspector.getClassLoader()), null, false);
+        try {
+            List<ForkJoinTask<ControllerExtraction>> tasks = new ArrayList<>(controllers.size());
+            for (final Class<?> controller : controllers) {
+                tasks.add(pool.submit(new Callable<ControllerExtraction>() {
+                    @Override
+                    public ControllerExtraction call() {
+                        return extractControllerDetails(controller);
+                    }
+                }));
+            }
+            for (ForkJoinTask<ControllerExtraction> task : tasks) {
+                addControllerToDomains(getExtraction(task));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
 
+    private int getParserParallelism() {
+        int parallelism = config.getParserParallelism();
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    private ControllerExtraction getExtraction(ForkJoinTask<ControllerExtraction> task) {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while extracting controllers", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new RuntimeException("Error extracting controller", e.getCause());
+        }
     }
 
     private Set<Class<?>> getAllRestfulControllerClasses() {
-        String packageToSearchForControllers = config.getPackageToSearchForControllers();
-        if (StringUtils.isBlank(packageToSearchForControllers)) {
-            throw new RuntimeException("Please provide package to search for controllers in configuration");
-        }
-        log.debug("Looking up on package " + packageToSearchForControllers);
-        Set<Class<?>> controllerSet = new Reflections(packageToSearchForControllers).getTypesAnnotatedWith(Controller.class);
-        log.debug("Spring controllers found : " + controllerSet.size());
-        Set<Class<?>> restcontrollersSet = new Reflections(packageToSearchForControllers).getTypesAnnotatedWith(RestController.class);
-        log.debug("Spring restcontrollers found : " + restcontrollersSet.size());
-        controllerSet.addAll(restcontrollersSet);
+        List<String> packagesToSearchForControllers = runContext.getPackagesToSearchForControllers();
+        log.debug("Looking up on packages " + packagesToSearchForControllers);
+        ClassLoader classLoader = Inspector.getClassLoader();
+        Set<Class<?>> controllerSet = new LinkedHashSet<>();
+        for (String controllerClassName : getControllerClassNames(classLoader, packagesToSearchForControllers)) {
+            try {
+                controllerSet.add(Class.forName(controllerClassName, false, classLoader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                log.warn("Could not load controller class " + controllerClassName + ": " + e);
+            }
+        }
+        log.debug("Spring controllers and restcontrollers found : " + controllerSet.size());
         log.debug("Found Controllers: " + StringUtils.join(controllerSet, ", "));
         return controllerSet;
     }
 
-    private void extractControllerDetails(SortedSet<String> requestMappings, Class<?> controller) {
+    /**
+     * The controllers of class path roots with a controller index are read from the index, the other roots are scanned.
+     */
+    private SortedSet<String> getControllerClassNames(ClassLoader classLoader, List<String> packagesToSearchForControllers) {
+        ControllerIndexReader controllerIndexReader = new ControllerIndexReader(classLoader);
+        ClassFileScanIndex scanIndex = StringUtils.isNotBlank(config.getScanIndexFile())
+                ? ClassFileScanIndex.load(new File(config.getScanIndexFile())) : null;
+        ClassFileScanner scanner = new ClassFileScanner(classLoader, Runtime.getRuntime().availableProcessors(), scanIndex);
+        SortedSet<String> controllers = new TreeSet<>();
+        for (String packageToSearchForControllers : packagesToSearchForControllers) {
+            Map<String, SortedSet<String>> indexedControllers = getIndexedControllerClassNames(controllerIndexReader, packageToSearchForControllers);
+            for (Map.Entry<String, SortedSet<String>> indexedControllersOfRoot : indexedControllers.entrySet()) {
+                log.debug("Using controller index of " + indexedControllersOfRoot.getKey() + " for package " + packageToSearchForControllers);
+                controllers.addAll(indexedControllersOfRoot.getValue());
+            }
+            try {
+                controllers.addAll(scanner.scan(packageToSearchForControllers, indexedControllers.keySet())
+                        .getClassesAnnotatedWith(Controller.class.getName(), RestController.class.getName()));
+            } catch (IOException e) {
+                throw new RuntimeException("Error scanning package " + packageToSearchForControllers + " for controllers", e);
+            }
+        }
+        if (scanIndex != null) {
+            try {
+                scanIndex.save();
+            } catch (IOException e) {
+                log.warn("Could not save scan index " + config.getScanIndexFile() + ": " + e.getMessage());
+            }
+        }
+        return controllers;
+    }
+
+    private Map<String, SortedSet<String>> getIndexedControllerClassNames(ControllerIndexReader controllerIndexReader, String packageToSearchForControllers) {
+        try {
+            return controllerIndexReader.getControllers(packageToSearchForControllers);
+        } catch (IOException e) {
+            log.warn("Could not read controller index, scanning package " + packageToSearchForControllers + ": " + e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    private ControllerExtraction extractControllerDetails(Class<?> controller) {
         log.debug("Inspecting controller " + controller.getSimpleName());
+        ControllerExtraction controllerExtraction = new ControllerExtraction(controller);
         Class<?> documentation = getDocumentation(controller);
         if (excludeFromDocumentation(controller) || hasNoDocumentation(documentation, controller)) {
-            return;
+            return controllerExtraction;
         }
         if (controllerIsNotAbstract(controller) && isControllerAnnotationPresent(controller)) {
-            String generalRequestMapping = getGeneralRequestMapping(controller);
-            for (Method method : controller.getDeclaredMethods()) {
+            DocPath controllerPath = getControllerPath(controller);
+            for (Method method : ClassMetadata.of(controller).getDeclaredMethods()) {
+                MethodExtraction methodExtraction = new MethodExtraction(method);
+                controllerExtraction.methods.add(methodExtraction);
                 try {
-                    if (ignoreMethodForDocumentation(generalRequestMapping, method)) {
+                    if (ignoreMethodForDocumentationWithCustomAnnotation(controllerPath, method)) {
                         reporter.addIgnoredMethod(controller, method.toString());
                         continue;
                     }
-                    if (methodHasRequestMapping(method)) {
-                        String path = getRequestMapping(generalRequestMapping, method);
-                        requestMappings.add(path);
-                        DocDomain domain = getDomain(method);
-                        domain.setDeprecated(controller.isAnnotationPresent(Deprecated.class));
-                        addOperation(method, path, domain);
-                        reporter.addDocumentedMethod(controller, method.toString());
+                    MethodDocumentation methodDocumentation = new MethodDocumentation(method, documentation);
+                    if (ignoreMethodForDocumentation(controllerPath, methodDocumentation)) {
+                        reporter.addIgnoredMethod(controller, method.toString());
+                        continue;
+                    }
+                    if (methodDocumentation.hasRequestMapping()) {
+                        DocPath path = getRequestPath(controllerPath, method);
+                        methodExtraction.domainDescription = methodDocumentation.getDomainDescription();
+                        methodExtraction.operation = createOperation(methodDocumentation, path);
                     }
                 } catch (UndocumentedMethodException ex) {
-                    log.debug("UNDOCUMENTED METHOD: " + ex.getMessage());
-                    reporter.addUndocumentedMethod(controller, method.toString());
+                    methodExtraction.undocumented = ex;
+                } catch (RuntimeException ex) {
+                    methodExtraction.failure = ex;
+                    break;
                 }
+            }
+        }
+        return controllerExtraction;
+    }
 
+    private void addControllerToDomains(ControllerExtraction controllerExtraction) {
+        Class<?> controller = controllerExtraction.controller;
+        for (MethodExtraction methodExtraction : controllerExtraction.methods) {
+            Method method = methodExtraction.method;
+            try {
+                if (methodExtraction.domainDescription != null) {
+                    DocDomain domain = getDomain(methodExtraction.domainDescription);
+                    domain.setDeprecated(isAnnotationPresent(controller, Deprecated.class));
+                    if (methodExtraction.operation != null) {
+                        domain.getOperations().add(methodExtraction.operation);
+                        reporter.addDocumentedMethod(controller, method.toString());
+                    }
+                }
+                if (methodExtraction.failure != null) {
+                    throw methodExtraction.failure;
+                }
+                if (methodExtraction.undocumented != null) {
+                    throw methodExtraction.undocumented;
+                }
+            } catch (UndocumentedMethodException ex) {
+                log.debug("UNDOCUMENTED METHOD: " + ex.getMessage());
+                reporter.addUndocumentedMethod(controller, method.toString());
             }
         }
     }
@@ -122,101 +297,32 @@ public class SpringParser {
     }
 
     private Set<DocError> getListOfPossibleErrors(Class<?> controller, List<Class<?>> exceptionList) {
-        Class<?> stopInspectionAtControllerClass = null;
-        if (StringUtils.isNotBlank(config.getControllerClassToStopErrorInspection())) {
-            stopInspectionAtControllerClass = getClassByName(config.getControllerClassToStopErrorInspection());
-        }
-        return getListOfPossibleErrors(controller, stopInspectionAtControllerClass, InstanceCreator.createInstanceOf(controller), new TreeSet<DocError>(), exceptionList);
+        return exceptionHandlerIndex.getErrors(controller, runContext.getControllerClassToStopErrorInspection(), new ControllerInstance(instancePool, controller), exceptionList);
     }
 
 
     private void addCommonListOfPossibleErrors() {
-        if (StringUtils.isNotBlank(config.getAbstractControllerClassForCommonExceptionHandlers()) && StringUtils.isNotBlank(config.getInstanceControllerClassForCommonExceptionHandlers())) {
-            Class<?> abstractControllerClass = getClassByName(config.getAbstractControllerClassForCommonExceptionHandlers());
-            Class<?> instanceControllerClass = getClassByName(config.getInstanceControllerClassForCommonExceptionHandlers());
-            listOfCommonErrors.addAll(getListOfPossibleErrors(abstractControllerClass, null, InstanceCreator.createInstanceOf(instanceControllerClass), new TreeSet<DocError>(), null));
+        Class<?> abstractControllerClass = runContext.getAbstractControllerClassForCommonExceptionHandlers();
+        Class<?> instanceControllerClass = runContext.getInstanceControllerClassForCommonExceptionHandlers();
+        if (abstractControllerClass != null && instanceControllerClass != null) {
+            listOfCommonErrors.addAll(exceptionHandlerIndex.getErrors(abstractControllerClass, null, new ControllerInstance(instancePool, instanceControllerClass), null));
         }
     }
 
-    private Set<DocError> getListOfPossibleErrors(Class<?> controller, Class<?> stopAtAbstractController, Object controllerInstance,
-                                                  Set<DocError> result, List<Class<?>> exceptionList) {
-        if (controller.equals(Object.class) || (stopAtAbstractController != null && controller.equals(stopAtAbstractController))) {
-            return result;
-        } else {
-            log.debug("Inspecting error handler in controller class " + controller.getSimpleName());
-            getListOfPossibleErrors(controller.getSuperclass(), stopAtAbstractController, controllerInstance, result, exceptionList);
-        }
-        for (Method method : controller.getDeclaredMethods()) {
-            if (method.isAnnotationPresent(ExceptionHandler.class)) {
-                ExceptionHandler exceptionHandler = method.getAnnotation(ExceptionHandler.class);
-                if (isExceptionListProvided(exceptionList) && !isExceptionHandlerForProvidedExceptions(exceptionList, exceptionHandler)) {
-                    log.debug("No matching exception of exception handler in provided list found");
-                    continue;
-                }
-                log.debug("Inspecting exception handler " + method.getName());
-                HttpStatus httpStatus = HttpStatus.INTERNAL_SERVER_ERROR;
-                if (method.isAnnotationPresent(ResponseStatus.class)) {
-                    httpStatus = method.getAnnotation(ResponseStatus.class).value();
-                }
-                String errorMessage = "";
-                String description = httpStatus.getReasonPhrase();
-                if (method.isAnnotationPresent(ErrorDescription.class)) {
-                    ErrorDescription errorDescription = method.getAnnotation(ErrorDescription.class);
-                    if (errorDescription.ignore()) {
-                        reporter.addIgnoredErrorHandler(controller, method.toString());
-                        continue;
-                    }
-                    reporter.addDocumentedErrorHandler(controller, method.toString());
-                    errorMessage = errorDescription.detail();
-                    description = errorDescription.description();
-
-                } else {
-                    reporter.addUndocumentedErrorHandler(controller, method.toString());
-                }
-                if (StringUtils.isEmpty(errorMessage)) {
-                    errorMessage = getErrorMessageFromExceptionHandler(method, controllerInstance, exceptionHandler);
-                }
-                result.add(new DocError(httpStatus.value(), errorMessage, description));
-            }
-        }
-
-        return result;
-    }
-
-    private boolean isExceptionListProvided(List<Class<?>> exceptionList) {
-        return exceptionList != null && !exceptionList.isEmpty();
-    }
-
-    private boolean isExceptionHandlerForProvidedExceptions(List<Class<?>> exceptionList, ExceptionHandler exceptionHandler) {
-        log.debug("Exception handler exceptions " + StringUtils.join(exceptionHandler.value(), ","));
-        log.debug("Exception list provided " + StringUtils.join(exceptionList, ","));
-        Class<? extends Throwable>[] exceptions = exceptionHandler.value();
-        for (Class<? extends Throwable> exception : exceptions) {
-            for (Class<?> providedException : exceptionList) {
-                if(exception.getName().equals(providedException.getName())) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-
-    private String getErrorMessageFromExceptionHandler(Method method, Object controllerInstance, ExceptionHandler exceptionHandler) {
-        if (StringUtils.isNotBlank(config.getExceptionHandlerInvoker())) {
-            try {
-                Class<?> invokerClass = getClassByName(config.getExceptionHandlerInvoker());
-                SpringExceptionHandlerInvoker invoker = (SpringExceptionHandlerInvoker) invokerClass.newInstance();
-                return invoker.getErrorMessageFromExceptionHandler(method, controllerInstance, exceptionHandler);
-            } catch (InstantiationException | IllegalAccessException e) {
-                throw new RuntimeException("Error invoking ExceptionHandlerInvoker " + config.getExceptionHandlerInvoker(), e);
-            }
+    /**
+     * The controller is only instantiated if an invoker is configured, otherwise it is neither initialized nor
+     * instantiated.
+     */
+    private String getErrorMessageFromExceptionHandler(Method method, ControllerInstance controllerInstance, ExceptionHandler exceptionHandler) {
+        if (exceptionHandlerInvokerPool != null) {
+            return exceptionHandlerInvokerPool.getErrorMessage(method, controllerInstance, exceptionHandler);
         }
         return "";
     }
 
     private Class<?> getClassByName(String className) {
         try {
-            return Class.forName(className);
+            return Inspector.loadClass(className);
         } catch (ClassNotFoundException e) {
             throw new RuntimeException("Error getting class for name " + className, e);
         }
@@ -237,13 +343,13 @@ public class SpringParser {
     }
 
     private boolean hasNoDocumentation(Class<?> documentation, Class<?> controller) {
-        if (documentation == null || !documentation.isAnnotationPresent(DomainDescription.class)) {
+        if (documentation == null || !isAnnotationPresent(documentation, DomainDescription.class)) {
             reporter.addUndocumentedController(controller);
-            for (Method method : controller.getDeclaredMethods()) {
-                if (method.isAnnotationPresent(RequestMapping.class)) {
+            for (Method method : ClassMetadata.of(controller).getDeclaredMethods()) {
+                if (isAnnotationPresent(method, RequestMapping.class)) {
                     reporter.addUndocumentedMethod(controller, method.toString());
                 }
-                if (method.isAnnotationPresent(ExceptionHandler.class)) {
+                if (isAnnotationPresent(method, ExceptionHandler.class)) {
                     reporter.addUndocumentedErrorHandler(controller, method.toString());
                 }
             }
@@ -253,14 +359,14 @@ public class SpringParser {
     }
 
     private boolean excludeFromDocumentation(Class<?> controller) {
-        if (controller.isAnnotationPresent(IgnoreForDocumentation.class)) {
-            IgnoreForDocumentation ignoreForDocumentation = controller.getAnnotation(IgnoreForDocumentation.class);
+        if (isAnnotationPresent(controller, IgnoreForDocumentation.class)) {
+            IgnoreForDocumentation ignoreForDocumentation = getAnnotation(controller, IgnoreForDocumentation.class);
             reporter.addIgnoredController(controller, ignoreForDocumentation.reason());
-            for (Method method : controller.getDeclaredMethods()) {
-                if (method.isAnnotationPresent(RequestMapping.class)) {
+            for (Method method : ClassMetadata.of(controller).getDeclaredMethods()) {
+                if (isAnnotationPresent(method, RequestMapping.class)) {
                     reporter.addIgnoredMethod(controller, method.toString());
                 }
-                if (method.isAnnotationPresent(ExceptionHandler.class)) {
+                if (isAnnotationPresent(method, ExceptionHandler.class)) {
                     reporter.addIgnoredErrorHandler(controller, method.toString());
                 }
             }
@@ -269,93 +375,32 @@ public class SpringParser {
         return false;
     }
 
-    private boolean ignoreMethodForDocumentation(String generalRequestMapping, Method method) {
-        if (ignoreMethodForDocumentationWithCustomAnnotation(method, config.getCustomAnnotationToBeIgnored())) {
-            log.debug("Ignoring method " + method.getName() + " (" + method.toString() + ") for documentation because of custom annotation " + config.getCustomAnnotationToBeIgnored());
-            printMethodPathAndHttpMethod(generalRequestMapping, method);
-            return true;
-        }
-        if (ignoreForDocumentation(method)) {
-            if (methodHasRequestMapping(method)) {
-                log.warn("Ignoring method " + method.getName() + " (" + method.toString() + ") for documentation");
-                printMethodPathAndHttpMethod(generalRequestMapping, method);
+    private boolean ignoreMethodForDocumentationWithCustomAnnotation(DocPath controllerPath, Method method) {
+        for (Class<? extends Annotation> customAnnotationToBeIgnored : runContext.getCustomAnnotationsToBeIgnored()) {
+            if (isAnnotationPresent(method, customAnnotationToBeIgnored)) {
+                log.debug("Ignoring method " + method.getName() + " (" + method.toString() + ") for documentation because of custom annotation " + customAnnotationToBeIgnored.getName());
+                printMethodPathAndHttpMethod(controllerPath, method);
                 return true;
             }
         }
         return false;
     }
 
-    private void printMethodPathAndHttpMethod(String generalRequestMapping, Method method) {
-        if (methodHasRequestMapping(method)) {
-            log.debug("Ignoring path " + getRequestMapping(generalRequestMapping, method) + " - " + getHttpMethod(method));
-        }
-    }
-
-    @SuppressWarnings("unchecked")
-    private boolean ignoreMethodForDocumentationWithCustomAnnotation(Method method, String customAnnotationToBeIgnoredName) {
-        if (StringUtils.isNotBlank(customAnnotationToBeIgnoredName)) {
-            Class<? extends Annotation> customAnnotationToBeIgnored = (Class<? extends Annotation>) getClassByName(customAnnotationToBeIgnoredName);
-            return method.isAnnotationPresent(customAnnotationToBeIgnored);
-        }
-        return false;
-    }
-
-    private boolean ignoreForDocumentation(Method method) {
-        Method methodFromDocumentation = getMethodFromDocumentation(method);
-        if (methodFromDocumentation != null) {
-            if (methodFromDocumentation.isAnnotationPresent(IgnoreForDocumentation.class)) {
-                IgnoreForDocumentation ignore = methodFromDocumentation.getAnnotation(IgnoreForDocumentation.class);
-                if (StringUtils.isNotBlank(ignore.ignoreDocumentationUntil())) {
-                    try {
-                        if (new Date().before(new SimpleDateFormat("dd.MM.yyyy").parse(ignore.ignoreDocumentationUntil()))) {
-                            return true;
-                        } else {
-                            throw new RuntimeException("The ignore date is expired, please document the method " + method.toString());
-                        }
-                    } catch (ParseException e) {
-                        throw new RuntimeException("The ignoreStartDate has the wrong format, should be 'dd.MM.yyyy'", e);
-                    }
-                } else {
-                    return true;
-                }
-            }
-            return false;
-        } else {
-            if (methodHasRequestMapping(method)) {
-                throw new UndocumentedMethodException("No documented method " + method.getName() + " found. Maybe signature has changed?");
-            } else {
+    private boolean ignoreMethodForDocumentation(DocPath controllerPath, MethodDocumentation methodDocumentation) {
+        Method method = methodDocumentation.getMethod();
+        if (methodDocumentation.isIgnoredForDocumentation()) {
+            if (methodDocumentation.hasRequestMapping()) {
+                log.warn("Ignoring method " + method.getName() + " (" + method.toString() + ") for documentation");
+                printMethodPathAndHttpMethod(controllerPath, method);
                 return true;
             }
         }
+        return false;
     }
 
-    private DocDomain getDomain(Method method) {
-
-        if (method == null) {
-            throw new RuntimeException("No domain description found in controller");
-        }
-        DomainDescription domainDescription = null;
-        if (method.isAnnotationPresent(DomainDescription.class)) {
-            domainDescription = method.getAnnotation(DomainDescription.class);
-        } else if (method.getDeclaringClass().isAnnotationPresent(DomainDescription.class)) {
-            domainDescription = method.getDeclaringClass().getAnnotation(DomainDescription.class);
-        }
-        if (domainDescription != null) {
-            return getDomain(domainDescription);
-        }
-        return getDomain(getMethodFromDocumentation(method));
-    }
-
-    private Method getMethodFromDocumentation(Method method) {
-        if (StringUtils.isNotBlank(config.getDocumentationSuffix())) {
-            Class<?> documentation = getDocumentation(method.getDeclaringClass());
-            try {
-                return documentation.getDeclaredMethod(method.getName(), method.getParameterTypes());
-            } catch (NoSuchMethodException | SecurityException e) {
-                return null;
-            }
-        } else {
-            return method;
+    private void printMethodPathAndHttpMethod(DocPath controllerPath, Method method) {
+        if (methodHasRequestMapping(method)) {
+            log.debug("Ignoring path " + getRequestPath(controllerPath, method) + " - " + getHttpMethod(method));
         }
     }
 
@@ -364,23 +409,25 @@ public class SpringParser {
     }
 
     private boolean isControllerAnnotationPresent(Class<?> controller) {
-        return controller.isAnnotationPresent(Controller.class) || controller.isAnnotationPresent(RestController.class);
+        return isAnnotationPresent(controller, Controller.class) || isAnnotationPresent(controller, RestController.class);
     }
 
     private boolean methodHasRequestMapping(Method method) {
-        return method.isAnnotationPresent(RequestMapping.class);
+        return isAnnotationPresent(method, RequestMapping.class);
     }
 
-    private void addOperation(Method method, String path, DocDomain domain) {
-        OperationDescription operationDescription = getOperationDescription(method);
+    private DocOperation createOperation(MethodDocumentation methodDocumentation, DocPath path) {
+        Method method = methodDocumentation.getMethod();
+        OperationDescription operationDescription = methodDocumentation.getOperationDescription();
         DocOperation operation = new DocOperation();
         operation.setHttpMethod(getHttpMethod(method));
         operation.setResponseStatus(getResponseStatus(method));
-        operation.setOperationResponse(getOperationResponse(method));
+        operation.setOperationResponse(getOperationResponse(methodDocumentation));
         operation.setNickname(method.getName());
-        operation.setPath(path);
-        operation.setParameters(getParametersOfMethod(method, path));
-        operation.setRole(getRoleFromMethod(method));
+        operation.setPath(path.getPath());
+        operation.setRequestPath(path);
+        operation.setParameters(getParametersOfMethod(methodDocumentation, path));
+        setAuthorization(operation, method);
         operation.setStaticRequestSample(operationDescription.staticRequestSample());
         if (operationDescription != null) {
             if (StringUtils.isNotBlank(operationDescription.nickname())) {
@@ -392,15 +439,15 @@ public class SpringParser {
             operation.setOrder(operationDescription.order());
             operation.setExternalDocumentations(getExternalDocumentations(operationDescription.externalDocumentation()));
         }
-        operation.setDeprecated(method.isAnnotationPresent(Deprecated.class));
-        operation.setErrorList(getErrorListForOperation(method));
-        domain.getOperations().add(operation);
+        operation.setDeprecated(isAnnotationPresent(method, Deprecated.class));
+        operation.setErrorList(getErrorListForOperation(methodDocumentation));
+        return operation;
     }
 
-    private Set<DocError> getErrorListForOperation(Method method) {
-        Method methodFromDocumentation = getMethodFromDocumentation(method);
-        if(methodFromDocumentation.isAnnotationPresent(ErrorDescriptions.class)) {
-            return getErrorList(methodFromDocumentation.getAnnotation(ErrorDescriptions.class).value());
+    private Set<DocError> getErrorListForOperation(MethodDocumentation methodDocumentation) {
+        Method method = methodDocumentation.getMethod();
+        if(methodDocumentation.getErrorDescriptions() != null) {
+            return getErrorList(methodDocumentation.getErrorDescriptions().value());
         }
         List<Class<?>> exceptionList = Arrays.asList(method.getExceptionTypes());
         if(exceptionList.isEmpty()) {
@@ -409,45 +456,31 @@ public class SpringParser {
         return getListOfPossibleErrors(method.getDeclaringClass(), exceptionList);
     }
 
-    private OperationDescription getOperationDescription(Method method) {
-        Method documentedMethod = getMethodFromDocumentation(method);
-        if (documentedMethod.isAnnotationPresent(OperationDescription.class)) {
-            return documentedMethod.getAnnotation(OperationDescription.class);
-        }
-        throw new UndocumentedMethodException("No Operation description found at method " + method.toString());
-    }
-
-    private String getRoleFromMethod(Method method) {
-        if (method.isAnnotationPresent(PreAuthorize.class)) {
-            String role = method.getAnnotation(PreAuthorize.class).value();
-            return role.replaceAll("hasAnyRole\\(", "").replaceAll("hasRole\\(", "").replaceAll("'", "").replaceAll(" + #mandant.", "")
-                    .replaceAll("\\)", "");
+    private void setAuthorization(DocOperation operation, Method method) {
+        if (isAnnotationPresent(method, PreAuthorize.class)) {
+            DocAuthorization authorization = preAuthorizeParser.parse(getAnnotation(method, PreAuthorize.class).value());
+            operation.setAuthorization(authorization);
+            operation.setRole(authorization.getRoleNames());
+        } else {
+            operation.setRole("");
         }
-        return "";
     }
 
-    private String getGeneralRequestMapping(Class<?> controller) {
+    private DocPath getControllerPath(Class<?> controller) {
         String generalRequestMapping = "";
-        if (controller.isAnnotationPresent(RequestMapping.class)) {
-            generalRequestMapping = controller.getAnnotation(RequestMapping.class).value()[0];
+        if (isAnnotationPresent(controller, RequestMapping.class)) {
+            generalRequestMapping = getAnnotation(controller, RequestMapping.class).value()[0];
         }
-        return generalRequestMapping;
+        return RequestPathParser.parseControllerPath(generalRequestMapping);
     }
 
-    private String getRequestMapping(String generalRequestMapping, Method method) {
+    private DocPath getRequestPath(DocPath controllerPath, Method method) {
         String methodRequestMapping = "";
-        RequestMapping requestMapping = method.getAnnotation(RequestMapping.class);
+        RequestMapping requestMapping = getAnnotation(method, RequestMapping.class);
         if (requestMapping.value().length > 0) {
             methodRequestMapping = requestMapping.value()[0];
         }
-        return (addSlashIfNotThere(generalRequestMapping) + addSlashIfNotThere(methodRequestMapping)).replaceAll("//", "/");
-    }
-
-    private String addSlashIfNotThere(String requestMapping) {
-        if (!requestMapping.startsWith("/")) {
-            return "/" + requestMapping;
-        }
-        return requestMapping;
+        return RequestPathParser.parseMethodPath(controllerPath, methodRequestMapping);
     }
 
     private DocDomain getDomain(DomainDescription description) {
@@ -516,22 +549,22 @@ public class SpringParser {
     }
 
     private String getHttpMethod(Method method) {
-        return StringUtils.join(method.getAnnotation(RequestMapping.class).method(), ",");
+        return StringUtils.join(getAnnotation(method, RequestMapping.class).method(), ",");
     }
 
     private String getResponseStatus(Method method) {
-        if (method.isAnnotationPresent(ResponseStatus.class)) {
-            ResponseStatus responseStatus = method.getAnnotation(ResponseStatus.class);
+        if (isAnnotationPresent(method, ResponseStatus.class)) {
+            ResponseStatus responseStatus = getAnnotation(method, ResponseStatus.class);
             return responseStatus.value().value() + " - " + StringUtils.defaultString(responseStatus.reason(), responseStatus.value().getReasonPhrase());
         }
         return HttpStatus.OK.value() + " - " + HttpStatus.OK.getReasonPhrase();
     }
 
-    private DocOperationResponse getOperationResponse(Method method) {
+    private DocOperationResponse getOperationResponse(MethodDocumentation methodDocumentation) {
+        Method method = methodDocumentation.getMethod();
         DocOperationResponse operationResponse = new DocOperationResponse();
-        Method documentedMethod = getMethodFromDocumentation(method);
-        if (documentedMethod.isAnnotationPresent(ResponseDescription.class)) {
-            ResponseDescription responseDescription = documentedMethod.getAnnotation(ResponseDescription.class);
+        ResponseDescription responseDescription = methodDocumentation.getResponseDescription();
+        if (responseDescription != null) {
             if (responseDescription.type() != void.class) {
                 dataTypeParser.addDataType(responseDescription.type());
                 operationResponse.setResponseType(removeEnd(responseDescription.type().getSimpleName(), config.getDataTypeSuffix()));
@@ -545,7 +578,7 @@ public class SpringParser {
         }
         if (methodHasResponseType(method)) {
             if (Inspector.isListSetOrArray(method.getReturnType())) {
-                Class<?> genericClass = Inspector.getGenericClassOfList(method.getReturnType(), method.getGenericReturnType());
+                Class<?> genericClass = Inspector.getGenericClassOfList(method.getReturnType(), method.getGenericReturnType(), method.getDeclaringClass());
                 dataTypeParser.addDataType(genericClass);
                 operationResponse.setResponseType(removeEnd(genericClass.getSimpleName(), config.getDataTypeSuffix()));
                 operationResponse.setResponseTypeClass(genericClass);
@@ -565,25 +598,25 @@ public class SpringParser {
     }
 
     private boolean methodHasResponseType(Method method) {
-        return method.getDeclaringClass().isAnnotationPresent(RestController.class) || method.isAnnotationPresent(ResponseBody.class);
+        return isAnnotationPresent(method.getDeclaringClass(), RestController.class) || isAnnotationPresent(method, ResponseBody.class);
     }
 
-    private List<DocParameter> getParametersOfMethod(Method method, String apiPath) {
-        log.debug("Inspecting method " + method.getName() + " with path " + apiPath);
-        Pattern p = Pattern.compile("\\{.+?\\}");
-        Matcher pathMatcher = p.matcher(apiPath);
+    private List<DocParameter> getParametersOfMethod(MethodDocumentation methodDocumentation, DocPath path) {
+        Method method = methodDocumentation.getMethod();
+        log.debug("Inspecting method " + method.getName() + " with path " + path);
+        Iterator<String> pathVariables = path.getPathVariables().iterator();
         List<DocParameter> parameters = new ArrayList<>();
         Annotation[][] parameterAnnotations = method.getParameterAnnotations();
         Class<?>[] parameterTypes = method.getParameterTypes();
         for (int i = 0; i < parameterAnnotations.length; i++) {
             if (parameterAnnotations[i].length > 0) {
-                ParameterDescription parameterDescription = getParameterDescription(method);
+                ParameterDescription parameterDescription = methodDocumentation.getParameterDescription();
                 DocParameter docParameter = new DocParameter();
                 docParameter.setRequired(true);
                 Class<?> parameterType = parameterTypes[i];
                 Annotation annotation = parameterAnnotations[i][0];
                 if (annotation.annotationType() == PathVariable.class) {
-                    addPathVariableParametersToDocParameter(apiPath, pathMatcher, parameterDescription, docParameter, parameterType);
+                    addPathVariableParametersToDocParameter(pathVariables, parameterDescription, docParameter, parameterType);
                 } else if (annotation.annotationType() == RequestBody.class) {
                     addRequestBodyParametersToDocParameter(parameterDescription, docParameter, parameterType);
                 } else if (annotation.annotationType() == RequestParam.class) {
@@ -602,20 +635,12 @@ public class SpringParser {
         return parameters;
     }
 
-    private ParameterDescription getParameterDescription(Method method) {
-        Method documentedMethod = getMethodFromDocumentation(method);
-        if (documentedMethod.isAnnotationPresent(ParameterDescription.class)) {
-            return documentedMethod.getAnnotation(ParameterDescription.class);
-        }
-        throw new UndocumentedMethodException("No parameter description found at method " + method.getName());
-    }
-
-    private void addPathVariableParametersToDocParameter(String apiPath, Matcher pathMatcher, ParameterDescription parameterDescription,
+    private void addPathVariableParametersToDocParameter(Iterator<String> pathVariables, ParameterDescription parameterDescription,
                                                          DocParameter docParameter, Class<?> parameterType) {
         docParameter.setParamType("path");
         docParameter.setDataType("string");
-        if (pathMatcher.find()) {
-            String name = apiPath.substring(pathMatcher.start() + 1, pathMatcher.end() - 1);
+        if (pathVariables.hasNext()) {
+            String name = pathVariables.next();
             docParameter.setName(name);
             docParameter.setReferenceName(name);
         } else {
@@ -689,4 +714,49 @@ public class SpringParser {
         return listOfCommonErrors;
     }
 
+    private static class ControllerExtraction {
+
+        private final Class<?> controller;
+        private final List<MethodExtraction> methods = new ArrayList<>();
+
+        ControllerExtraction(Class<?> controller) {
+            this.controller = controller;
+        }
+    }
+
+    /**
+     * The outcome of extracting a single request mapping. The domain is only looked up when the extraction is
+     * merged, because domains are created by the first operation referring to them.
+     */
+    private static class MethodExtraction {
+
+        private final Method method;
+        private DomainDescription domainDescription;
+        private DocOperation operation;
+        private UndocumentedMethodException undocumented;
+        private RuntimeException failure;
+
+        MethodExtraction(Method method) {
+            this.method = method;
+        }
+    }
+
+    private static class ParserThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+
+        private final ClassLoader classLoader;
+        private final AtomicInteger count = new AtomicInteger();
+
+        ParserThreadFactory(ClassLoader classLoader) {
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("lazydoc-parser-" + count.incrementAndGet());
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        }
+    }
+
 }
@@ -6,15 +6,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.lazydoc.config.PrinterConfig;
 import org.lazydoc.model.*;
 
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Source;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.stream.StreamResult;
-import javax.xml.transform.stream.StreamSource;
 import java.io.IOException;
-import java.io.StringReader;
-import java.io.StringWriter;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
@@ -31,181 +23,175 @@ public class DocBookDocumentationPrinter extends DocumentationPrinter {
         printDocBookXML();
     }
 
+    /**
+     * Every file is written with one {@link XmlWriter} to the sink of the printer.
+     */
     private void printDocBookXML() throws Exception {
-        createApiDocXML();
-        createChapters();
-        writeFiles(FilenameUtils.normalizeNoEndSeparator(printerConfig.getOutputPath()));
+        DocumentationSink sink = openSink(FilenameUtils.normalizeNoEndSeparator(printerConfig.getOutputPath()));
+        try {
+            createApiDocXML();
+            createChapters();
+        } catch (Exception e) {
+            sink.abort();
+            throw e;
+        }
+        sink.close();
     }
 
-    private void createApiDocXML() {
+    private void createApiDocXML() throws IOException {
         String docbookFilename = printerConfig.getParams().get("docbook.filename");
         String docbookPreface = printerConfig.getParams().get("docbook.preface");
         String docbookPostface = printerConfig.getParams().get("docbook.postface");
         if(StringUtils.isBlank(docbookFilename)) {
             throw new RuntimeException("Please provide the docbook.filename in printer config params");
         }
-        String xml = printVersion();
-        xml += printStartTagWithAttributes(
-                "book",
-                "xmlns=\"http://docbook.org/ns/docbook\" xml:lang=\"en\" xmlns:xlink=\"http://www.w3.org/1999/xlink\" xmlns:xi=\"http://www.w3.org/2001/XInclude\" xmlns:svg=\"http://www.w3.org/2000/svg\" xmlns:m=\"http://www.w3.org/1998/Math/MathML\" xmlns:html=\"http://www.w3.org/1999/xhtml\" version=\"5.0\"");
-        xml += "<?dbhtml dir=\""+docbookFilename.replaceAll(".xml", "")+"\" ?>";
-
-        xml += printShortTag("toc");
+        try (XmlWriter xml = new XmlWriter(openFile("/" + docbookFilename))) {
+            xml.startElement("book", "xmlns", "http://docbook.org/ns/docbook", "xml:lang", "en", "xmlns:xlink", "http://www.w3.org/1999/xlink",
+                    "xmlns:xi", "http://www.w3.org/2001/XInclude", "xmlns:svg", "http://www.w3.org/2000/svg", "xmlns:m", "http://www.w3.org/1998/Math/MathML",
+                    "xmlns:html", "http://www.w3.org/1999/xhtml", "version", "5.0");
+            xml.processingInstruction("dbhtml", "dir=\"" + docbookFilename.replaceAll(".xml", "") + "\" ");
 
-        if(StringUtils.isNotBlank(docbookPreface)) {
-            xml += printShortTagWithAttributes("xi:include", "href=\""+ docbookPreface + ".xml\"");
-        }
+            xml.emptyElement("toc");
 
-        for (DocDomain domain : printerConfig.getDomains().values()) {
-            xml += printShortTagWithAttributes("xi:include", "href=\"chapters/" + domain.getDomain().toLowerCase() + ".xml\"");
-        }
-        xml += printCommonErrorDescriptions();
+            if(StringUtils.isNotBlank(docbookPreface)) {
+                xml.emptyElement("xi:include", "href", docbookPreface + ".xml");
+            }
 
-        if(StringUtils.isNotBlank(docbookPostface)) {
-            xml += printShortTagWithAttributes("xi:include", "href=\""+ docbookPostface + ".xml\"");
-        }
+            for (DocDomain domain : printerConfig.getDomains().values()) {
+                xml.emptyElement("xi:include", "href", "chapters/" + domain.getDomain().toLowerCase() + ".xml");
+            }
+            printCommonErrorDescriptions(xml);
 
+            if(StringUtils.isNotBlank(docbookPostface)) {
+                xml.emptyElement("xi:include", "href", docbookPostface + ".xml");
+            }
 
-        xml += printEndTag("book");
-        files.put("/"+docbookFilename, prettyFormat(xml, 4));
+            xml.endElement();
+        }
     }
 
-    private void createChapters() {
+    private void createChapters() throws IOException {
 
         for (DocDomain domain : printerConfig.getDomains().values()) {
-            String xml = printVersion();
-            xml += printStartTagWithAttributes(
-                    "chapter",
-                    "version=\"5.0\" xml:lang=\"en\" xmlns=\"http://docbook.org/ns/docbook\" xmlns:xi=\"http://www.w3.org/2001/XInclude\" xmlns:xlink=\"http://www.w3.org/1999/xlink\" xml:id=\""
-                            + domain.getDomain() + "_sect\"");
-            xml += printFullTag("title", domain.getDomainShortDescription());
-            xml += printFullTag("para", domain.getDescription());
-
-            if (domain.hasExternalDocumentation() ) {
-                xml += printShortTagWithAttributes("xi:include", "href=\"../static/" + domain.getExternalDocumentations() + ".xml\"");
-            }
+            try (XmlWriter xml = new XmlWriter(openFile("/chapters/" + domain.getDomain().toLowerCase() + ".xml"))) {
+                // the default namespace comes first, like the identity transformer wrote it
+                xml.startElement("chapter", "xmlns", "http://docbook.org/ns/docbook", "version", "5.0", "xml:lang", "en",
+                        "xmlns:xi", "http://www.w3.org/2001/XInclude", "xmlns:xlink", "http://www.w3.org/1999/xlink", "xml:id", domain.getDomain() + "_sect");
+                xml.element("title", domain.getDomainShortDescription());
+                xml.markupElement("para", domain.getDescription());
+
+                if (domain.hasExternalDocumentation() ) {
+                    xml.emptyElement("xi:include", "href", "../static/" + domain.getExternalDocumentations() + ".xml");
+                }
 
-            if (!domain.getSubDomains().isEmpty()) {
-                for (DocSubDomain subDomain : domain.getSubDomains().values()) {
-                    xml += printStartTag("sect1");
-                    xml += printFullTag("title", subDomain.getSubDomainShortDescription());
-                    xml += printFullTag("para", subDomain.getDescription());
-                    if (subDomain.hasExternalDocumentation()) {
-                        xml += printShortTagWithAttributes("xi:include", "href=\"../static/" + subDomain.getExternalDocumentations()
-                                + ".xml\"");
-                    }
-                    xml += printApiOperationsForDomain(subDomain);
-                    xml += printCommonErrorList(subDomain.getErrorList(), "sect2");
-                    xml += printEndTag("sect1");
+                if (!domain.getSubDomains().isEmpty()) {
+                    for (DocSubDomain subDomain : domain.getSubDomains().values()) {
+                        xml.startElement("sect1");
+                        xml.element("title", subDomain.getSubDomainShortDescription());
+                        xml.markupElement("para", subDomain.getDescription());
+                        if (subDomain.hasExternalDocumentation()) {
+                            xml.emptyElement("xi:include", "href", "../static/" + subDomain.getExternalDocumentations() + ".xml");
+                        }
+                        printApiOperationsForDomain(xml, subDomain);
+                        printCommonErrorList(xml, subDomain.getErrorList(), "sect2");
+                        xml.endElement();
 
+                    }
+                } else {
+                    printApiOperationsForDomain(xml, domain);
                 }
-            } else {
-                xml += printApiOperationsForDomain(domain);
-            }
 
-            xml += printCommonErrorList(domain.getErrorList(), "sect2");
+                printCommonErrorList(xml, domain.getErrorList(), "sect2");
 
-            if (domain.hasExternalDocumentation() ) {
-                xml += printShortTagWithAttributes("xi:include", "href=\"../static/" + domain.getExternalDocumentations() + ".xml\"");
-            }
+                if (domain.hasExternalDocumentation() ) {
+                    xml.emptyElement("xi:include", "href", "../static/" + domain.getExternalDocumentations() + ".xml");
+                }
 
-            xml += printEndTag("chapter");
-            files.put("/chapters/" + domain.getDomain().toLowerCase() + ".xml", prettyFormat(xml, 4));
+                xml.endElement();
+            }
         }
     }
 
-    private String printCommonErrorDescriptions() {
-        String xml = printStartTag("chapter");
-        xml += printFullTag("title", "List of comon error codes");
-        xml += printFullTag("para",
+    private void printCommonErrorDescriptions(XmlWriter xml) {
+        xml.startElement("chapter");
+        xml.element("title", "List of comon error codes");
+        xml.element("para",
                 "This area contains a list of all errors which can occure through processing which is not specific to a certain topic.");
-        xml += printCommonErrorList(printerConfig.getListOfCommonErrors(), "sect1");
-        xml += printEndTag("chapter");
-        return xml;
+        printCommonErrorList(xml, printerConfig.getListOfCommonErrors(), "sect1");
+        xml.endElement();
     }
 
-    private String printApiOperationsForDomain(DocDomain domain) {
-        String xiIncludes = "";
+    private void printApiOperationsForDomain(XmlWriter xml, DocDomain domain) throws IOException {
+        printTableTop(xml, "Available REST methods", "1*,3*,3*", "HTTP method", "Context path", "Description");
 
-        String xml = printTableTop("Available REST methods", "1*,3*,3*", "HTTP method", "Context path", "Description");
+        for (DocOperation operation : domain.getOperations()) {
+            xml.startElement("row");
+            xml.element("entry", operation.getHttpMethod());
+            xml.startElement("entry");
+            xml.startElement("link", "linkend", operation.getNickname().toLowerCase());
+            xml.element("uri", operation.getPath());
+            xml.endElement();
+            xml.endElement();
+            xml.markupElement("entry", operation.getDescription());
+            xml.endElement();
+        }
 
+        printTableBottom(xml);
         for (DocOperation operation : domain.getOperations()) {
-            xml += printStartTag("row");
-            xml += printFullTag("entry", operation.getHttpMethod());
-            xml += printStartTag("entry");
-            xml += printStartTagWithAttributes("link", "linkend=\"" + operation.getNickname().toLowerCase() + "\"");
-            xml += printFullTag("uri", operation.getPath());
-            xml += printEndTag("link");
-            xml += printEndTag("entry");
-            xml += printFullTag("entry", operation.getDescription());
-            xml += printEndTag("row");
-            xiIncludes += printShortTagWithAttributes("xi:include", "href=\"operations/" + domain.getDomain().toLowerCase() + "/"
-                    + operation.getNickname().toLowerCase() + ".xml\"");
+            xml.emptyElement("xi:include", "href", "operations/" + domain.getDomain().toLowerCase() + "/" + operation.getNickname().toLowerCase() + ".xml");
             createOperation(operation.getPath(), domain.getDomain(), operation);
         }
-
-        xml += printTableBottom();
-        xml += xiIncludes;
-        return xml;
     }
 
-    private void createOperation(String apiPath, String domain, DocOperation operation) {
-        String xml = printVersion();
-        xml += printStartTagWithAttributes("sect2",
-                "xmlns=\"http://docbook.org/ns/docbook\" xml:lang=\"en\" xmlns:xi=\"http://www.w3.org/2001/XInclude\"	version=\"5.0\" xml:id=\""
-                        + operation.getNickname().toLowerCase() + "\"");
-        xml += printFullTag("title", operation.getShortDescription());
-        xml += printFullTag("para", operation.getNotes());
-
-        if (operation.hasExternalDocumentation()) {
-        }
-
-        xml += printStartTag("simplesect");
-        xml += printFullTag("title", "Structure of the request");
-        xml += printFullTag("para", "Schematic representation of the URI with its parameters:");
-        xml += printFullTag("programlisting", operation.getHttpMethod() + " " + apiPath);
-
-        List<DocParameter> uriParameters = new ArrayList<>();
-        for (DocParameter parameter : operation.getParameters()) {
-            if (!parameter.getParamType().equals("body")) {
-                uriParameters.add(parameter);
-            }
-        }
-
-        if (!uriParameters.isEmpty()) {
-            xml += printFullTag("para", "The following parameters are expected:");
-
-            xml += printTableTop("Description of the call parameters", "1*,1*,3*", "Parameter", "Type", "Description");
-            for (DocParameter parameter : uriParameters) {
+    private void createOperation(String apiPath, String domain, DocOperation operation) throws IOException {
+        String filename = "/chapters/operations/" + domain.toLowerCase() + "/" + operation.getNickname().toLowerCase() + ".xml";
+        try (XmlWriter xml = new XmlWriter(openFile(filename))) {
+            xml.startElement("sect2", "xmlns", "http://docbook.org/ns/docbook", "xml:lang", "en", "xmlns:xi", "http://www.w3.org/2001/XInclude",
+                    "version", "5.0", "xml:id", operation.getNickname().toLowerCase());
+            xml.element("title", operation.getShortDescription());
+            xml.markupElement("para", operation.getNotes());
+
+            xml.startElement("simplesect");
+            xml.element("title", "Structure of the request");
+            xml.element("para", "Schematic representation of the URI with its parameters:");
+            xml.element("programlisting", operation.getHttpMethod() + " " + apiPath);
+
+            List<DocParameter> uriParameters = new ArrayList<>();
+            for (DocParameter parameter : operation.getParameters()) {
                 if (!parameter.getParamType().equals("body")) {
-                    xml += printStartTag("row");
-                    xml += printFullTag("entry", parameter.getName());
-                    xml += printFullTag("entry", parameter.getDataType());
-                    xml += printFullTag("entry", parameter.getDescription());
-                    xml += printEndTag("row");
+                    uriParameters.add(parameter);
                 }
             }
-            xml += printTableBottom();
 
-        } else {
-            xml += printFullTag("para", "There are no parameters needed in the URI");
-        }
+            if (!uriParameters.isEmpty()) {
+                xml.element("para", "The following parameters are expected:");
 
+                printTableTop(xml, "Description of the call parameters", "1*,1*,3*", "Parameter", "Type", "Description");
+                for (DocParameter parameter : uriParameters) {
+                    xml.startElement("row");
+                    xml.element("entry", parameter.getName());
+                    xml.element("entry", parameter.getDataType());
+                    xml.markupElement("entry", parameter.getDescription());
+                    xml.endElement();
+                }
+                printTableBottom(xml);
 
+            } else {
+                xml.element("para", "There are no parameters needed in the URI");
+            }
 
-        xml += printEndTag("simplesect");
-        xml += printRequestBody(operation.getParameters());
-        xml += printResponse(operation.getOperationResponse(), operation.getResponseStatus());
+            xml.endElement();
+            printRequestBody(xml, operation.getParameters());
+            printResponse(xml, operation.getOperationResponse(), operation.getResponseStatus());
 
-        xml += printEndTag("sect2");
-        files.put("/chapters/operations/" + domain.toLowerCase() + "/" + operation.getNickname().toLowerCase() + ".xml",
-                prettyFormat(xml.replaceAll("&", "&amp;"), 4));
+            xml.endElement();
+        }
     }
 
-    private String printRequestBody(List<DocParameter> parameters) {
+    private void printRequestBody(XmlWriter xml, List<DocParameter> parameters) {
         DocDataType dataType = null;
         DocParameter param = null;
-        String xml = printStartTag("simplesect");
+        xml.startElement("simplesect");
         for (DocParameter parameter : parameters) {
             if (parameter.getParamType().equals("body")) {
                 dataType = printerConfig.getDataTypes().get(parameter.getDataType());
@@ -214,82 +200,75 @@ public class DocBookDocumentationPrinter extends DocumentationPrinter {
             }
         }
         if (dataType != null) {
-            xml += printTableTop("Structure of the request body", "2*,1*,3*", "Type", "Cardinality", "Description");
-            xml += printStartTag("row");
-            xml += printFullTag("entry", dataType.getName());
+            printTableTop(xml, "Structure of the request body", "2*,1*,3*", "Type", "Cardinality", "Description");
+            xml.startElement("row");
+            xml.element("entry", dataType.getName());
             if (dataType.isList()) {
-                xml += printFullTag("entry", "1 .. n");
+                xml.element("entry", "1 .. n");
             } else {
-                xml += printFullTag("entry", "1");
+                xml.element("entry", "1");
             }
-            xml += printFullTag("entry", param.getDescription());
-            xml += printEndTag("row");
-            xml += printTableBottom();
-            xml += printDataType(dataType, true);
-            xml += printSample(dataType);
+            xml.markupElement("entry", param.getDescription());
+            xml.endElement();
+            printTableBottom(xml);
+            printDataType(xml, dataType, true);
+            printSample(xml, dataType);
         } else {
-            xml += printFullTag("title", "Structure of the request body");
-            xml += printFullTag("para", "The request body is not used for this operation.");
+            xml.element("title", "Structure of the request body");
+            xml.element("para", "The request body is not used for this operation.");
         }
-        xml += printEndTag("simplesect");
-
-        return xml;
+        xml.endElement();
     }
 
-    private String printResponse(DocOperationResponse operationResponse, String responseStatus) {
+    private void printResponse(XmlWriter xml, DocOperationResponse operationResponse, String responseStatus) {
         DocDataType dataType = printerConfig.getDataTypes().get(operationResponse.getResponseType());
-        String xml = printStartTag("simplesect");
-        xml += printFullTag("title", "Structure of the response");
-        xml += printFullTag("para", "If successful, the call returns HTTP status " + responseStatus);
+        xml.startElement("simplesect");
+        xml.element("title", "Structure of the response");
+        xml.element("para", "If successful, the call returns HTTP status " + responseStatus);
         if (dataType != null) {
-            xml += printFullTag("para", "The response body contains the following data:");
-            xml += printDataType(dataType, false);
+            xml.element("para", "The response body contains the following data:");
+            printDataType(xml, dataType, false);
         } else {
-            xml += printFullTag("para", "The response body is not used in this operation");
+            xml.element("para", "The response body is not used in this operation");
         }
-        xml += printEndTag("simplesect");
-        return xml;
+        xml.endElement();
     }
 
-    private String printDataType(DocDataType dataType, boolean request) {
-        String xml = printStartTag("para");
-        xml += printTableTop("Structure of the " + dataType.getName() + " element", "2*,1*,1*,3*", "Property", "Type", "Cardinality",
+    private void printDataType(XmlWriter xml, DocDataType dataType, boolean request) {
+        xml.startElement("para");
+        printTableTop(xml, "Structure of the " + dataType.getName() + " element", "2*,1*,1*,3*", "Property", "Type", "Cardinality",
                 "Description");
         for (DocProperty property : dataType.getProperties()) {
-            xml += printStartTag("row");
-            xml += printFullTag("entry", property.getName());
-            xml += printFullTag("entry", property.getType());
+            xml.startElement("row");
+            xml.element("entry", property.getName());
+            xml.element("entry", property.getType());
             String cardinality = property.isRequired() ? "1" : "0";
             if (property.isList()) {
                 cardinality += " .. n";
             } else if (cardinality == "0") {
                 cardinality += " .. 1";
             }
-            xml += printFullTag("entry", cardinality);
-            xml += printFullTag("entry", property.getDescription());
-            xml += printEndTag("row");
+            xml.element("entry", cardinality);
+            xml.markupElement("entry", property.getDescription());
+            xml.endElement();
         }
-        xml += printTableBottom();
-        xml += printEndTag("para");
+        printTableBottom(xml);
+        xml.endElement();
         for (DocProperty property : dataType.getProperties()) {
             DocDataType propertyDataType = getDataType(property);
             if (propertyDataType != null) {
-                xml += printDataType(propertyDataType, request);
+                printDataType(xml, propertyDataType, request);
             }
         }
-        return xml;
     }
 
-    private String printSample(DocDataType dataType) {
-        String xml = printStartTag("para");
-        xml += printStartTag("example");
-        xml += printFullTag("title", "Sample request");
-        xml += printStartTagWithAttributes("programlisting", "language=\"json\"");
-        xml += printJsonSample(dataType);
-        xml += printEndTag("programlisting");
-        xml += printEndTag("example");
-        xml += printEndTag("para");
-        return xml;
+    private void printSample(XmlWriter xml, DocDataType dataType) {
+        xml.startElement("para");
+        xml.startElement("example");
+        xml.element("title", "Sample request");
+        xml.element("programlisting", printJsonSample(dataType), "language", "json");
+        xml.endElement();
+        xml.endElement();
     }
 
     private String printJsonSample(DocDataType dataType) {
@@ -336,101 +315,52 @@ public class DocBookDocumentationPrinter extends DocumentationPrinter {
         return printerConfig.getDataTypes().get(property.getType().replaceAll("List\\[", "").replaceAll("\\]", ""));
     }
 
-    private String printCommonErrorList(Set<DocError> errorList, String section) {
+    private void printCommonErrorList(XmlWriter xml, Set<DocError> errorList, String section) {
         if (errorList.isEmpty()) {
-            return "";
+            return;
         }
-        String xml = printStartTag(section);
-        xml += printFullTag("title", "Error codes and descriptions");
-        xml += printFullTag("para", "The following error codes may occur during execution");
-        xml += printTableTop("List of possible errors", "1*,3*,2*", "Http Status", "Type", "Description");
+        xml.startElement(section);
+        xml.element("title", "Error codes and descriptions");
+        xml.element("para", "The following error codes may occur during execution");
+        printTableTop(xml, "List of possible errors", "1*,3*,2*", "Http Status", "Type", "Description");
         for (DocError error : errorList) {
-            xml += printStartTag("row");
-            xml += printFullTag("entry", "" + error.getStatusCode());
-            xml += printFullTag("entry", "" + error.getErrorCode());
-            xml += printFullTag("entry", "" + error.getDescription());
-            xml += printEndTag("row");
+            xml.startElement("row");
+            xml.element("entry", "" + error.getStatusCode());
+            xml.element("entry", "" + error.getErrorCode());
+            xml.markupElement("entry", "" + error.getDescription());
+            xml.endElement();
         }
-        xml += printTableBottom();
-        xml += printEndTag(section);
-        return xml;
+        printTableBottom(xml);
+        xml.endElement();
     }
 
-    private String printTableTop(String tableTitle, String columnWidths, String... captions) {
-        String xml = printStartTag("table");
-        xml += printFullTag("title", tableTitle);
-        xml += "<?dbfo keep-together=\"auto\" ?>";
-        xml += printStartTagWithAttributes("tgroup", "cols=\"" + captions.length + "\"");
+    private void printTableTop(XmlWriter xml, String tableTitle, String columnWidths, String... captions) {
+        xml.startElement("table");
+        xml.element("title", tableTitle);
+        xml.processingInstruction("dbfo", "keep-together=\"auto\" ");
+        xml.startElement("tgroup", "cols", "" + captions.length);
         String[] widths = columnWidths.split(",");
         for (int i = 0; i < captions.length; i++) {
-            xml += printShortTagWithAttributes("colspec", "colname=\"" + captions[i].toLowerCase() + "\" colwidth=\"" + widths[i] + "\"");
+            xml.emptyElement("colspec", "colname", captions[i].toLowerCase(), "colwidth", widths[i]);
         }
-        xml += printStartTag("thead");
-        xml += printStartTag("row");
+        xml.startElement("thead");
+        xml.startElement("row");
         for (int i = 0; i < captions.length; i++) {
-            xml += printFullTag("entry", captions[i]);
+            xml.element("entry", captions[i]);
         }
-        xml += printEndTag("row");
-        xml += printEndTag("thead");
-        xml += printStartTag("tbody");
-        return xml;
-    }
-
-    private String printTableBottom() {
-        String xml = printEndTag("tbody");
-        xml += printEndTag("tgroup");
-        xml += printEndTag("table");
-        return xml;
+        xml.endElement();
+        xml.endElement();
+        xml.startElement("tbody");
     }
 
-    private String printShortTagWithAttributes(String name, String attributes) {
-        return "<" + name + " " + attributes + "/>";
-    }
-
-    private String printShortTag(String name) {
-        return "<" + name + "/>";
+    private void printTableBottom(XmlWriter xml) {
+        xml.endElement();
+        xml.endElement();
+        xml.endElement();
     }
 
     private Integer getYearFromDate() {
         return new Integer(new SimpleDateFormat("yyyy").format(new Date()));
     }
 
-    private String printStartTag(String name) {
-        return "<" + name + ">";
-    }
-
-    private String printStartTagWithAttributes(String name, String attributes) {
-        return "<" + (name + " " + attributes).trim() + ">";
-    }
-
-    private String printEndTag(String name) {
-        return "</" + name + ">";
-    }
-
-    private String printFullTag(String name, String value) {
-        return "<" + name + ">" + value + "</" + name + ">";
-    }
-
-    private String printVersion() {
-        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>";
-    }
-
-    public static String prettyFormat(String input, int indent) {
-        try {
-            Source xmlInput = new StreamSource(new StringReader(input));
-            StringWriter stringWriter = new StringWriter();
-            StreamResult xmlOutput = new StreamResult(stringWriter);
-            TransformerFactory transformerFactory = TransformerFactory.newInstance();
-            transformerFactory.setAttribute("indent-number", indent);
-            Transformer transformer = transformerFactory.newTransformer();
-            transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-            transformer.transform(xmlInput, xmlOutput);
-            return xmlOutput.getWriter().toString();
-        } catch (Exception e) {
-            throw new RuntimeException(e); // simple exception handling, please review it
-        }
-    }
-
 }
-
-
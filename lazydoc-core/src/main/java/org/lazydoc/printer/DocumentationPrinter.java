@@ -1,34 +1,35 @@
 package org.lazydoc.printer;
 
-import org.apache.commons.io.FileUtils;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 import org.lazydoc.config.PrinterConfig;
-import org.lazydoc.model.DocDataType;
-import org.lazydoc.model.DocDomain;
-import org.lazydoc.model.DocError;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.charset.Charset;
-import java.util.*;
+import java.io.OutputStream;
 
 public abstract class DocumentationPrinter {
 
-	private Logger log = LogManager.getLogger(this.getClass());
+	private static final int OUTPUT_QUEUE_CAPACITY = 64;
+	private static final int OUTPUT_WRITER_THREADS = 4;
 
-	protected Map<String, String> files = new TreeMap<String, String>();
     protected PrinterConfig printerConfig;
+	private DocumentationSink sink;
 
 	public abstract void print(PrinterConfig printerConfig) throws Exception;
 
-	protected void writeFiles(String target) throws IOException {
-		for (String filename : files.keySet()) {
-			File file = new File(target + filename);
-			file.getParentFile().mkdirs();
-			log.info("Writing file " + file.getAbsolutePath());
-			FileUtils.write(file, files.get(filename), Charset.forName("UTF-8"));
+	/**
+	 * Opens the sink the files are written to with {@link #openFile(String)}. The files are written by a small pool of
+	 * background threads while the printer renders the next ones, closing the sink waits until all of them are written.
+	 * A printer which fails aborts the sink, so the files of the previous run are kept.
+	 */
+	protected DocumentationSink openSink(String target) {
+		sink = new QueuedDocumentationSink(new FileDocumentationSink(target), OUTPUT_QUEUE_CAPACITY, OUTPUT_WRITER_THREADS);
+		return sink;
+	}
+
+	protected OutputStream openFile(String filename) throws IOException {
+		if (sink == null) {
+			throw new RuntimeException("Please open the sink before writing files");
 		}
+		return sink.open(filename);
 	}
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,20 @@
+package org.lazydoc.printer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Target the printers write their files to. A file is opened, its content is streamed to the returned stream and the
+ * file is complete when the stream is closed. Closing the sink waits until all files are written.
+ */
+public interface DocumentationSink extends Closeable {
+
+    OutputStream open(String filename) throws IOException;
+
+    /**
+     * Closes the sink without writing the files which were not written yet, used when the printer failed.
+     */
+    void abort();
+
+}
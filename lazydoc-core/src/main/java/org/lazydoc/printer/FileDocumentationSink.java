@@ -0,0 +1,214 @@
+package org.lazydoc.printer;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes the files below the target directory, the filename is appended to the target as it is.
+ * A file is written to a new temporary file next to it and hashed while it is written. If the file on disk has the same
+ * content, the temporary file is deleted and the file keeps its modification time, otherwise the temporary file is
+ * moved over it when the sink is closed, so the files on disk are only replaced if the printer succeeded. A file
+ * written again replaces the content written before. Files can be written from several threads.
+ */
+public class FileDocumentationSink implements DocumentationSink {
+
+    private static final Logger log = LogManager.getLogger(FileDocumentationSink.class);
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final String target;
+    private final Set<Path> directories = Collections.newSetFromMap(new ConcurrentHashMap<Path, Boolean>());
+    private final AtomicInteger writtenFiles = new AtomicInteger();
+    private final AtomicInteger unchangedFiles = new AtomicInteger();
+    private final Set<FileContentOutputStream> openStreams = Collections.newSetFromMap(new ConcurrentHashMap<FileContentOutputStream, Boolean>());
+    private final ConcurrentMap<Path, FileContentOutputStream> completedStreams = new ConcurrentHashMap<>();
+
+    public FileDocumentationSink(String target) {
+        this.target = target;
+    }
+
+    @Override
+    public OutputStream open(String filename) throws IOException {
+        Path file = Paths.get(target + filename).toAbsolutePath();
+        Path directory = file.getParent();
+        createDirectories(directory);
+        FileContentOutputStream stream = new FileContentOutputStream(file, Files.createTempFile(directory, "." + file.getFileName() + ".", ".tmp"));
+        openStreams.add(stream);
+        return stream;
+    }
+
+    /**
+     * Moves the completed files over the files on disk, files which are still open are discarded.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            for (FileContentOutputStream stream : completedStreams.values()) {
+                log.info("Writing file " + stream.file);
+                stream.move();
+                completedStreams.remove(stream.file);
+                writtenFiles.incrementAndGet();
+            }
+        } finally {
+            discardStreams();
+        }
+        log.info("Wrote " + writtenFiles.get() + " files to " + target + ", " + unchangedFiles.get() + " files were unchanged");
+    }
+
+    @Override
+    public void abort() {
+        int discardedFiles = discardStreams();
+        log.warn("Discarded " + discardedFiles + " files, no files were written to " + target);
+    }
+
+    private int discardStreams() {
+        int discardedFiles = 0;
+        for (FileContentOutputStream stream : openStreams) {
+            stream.discard();
+            discardedFiles++;
+        }
+        for (FileContentOutputStream stream : completedStreams.values()) {
+            stream.discard();
+            discardedFiles++;
+        }
+        openStreams.clear();
+        completedStreams.clear();
+        return discardedFiles;
+    }
+
+    /**
+     * Every directory is created once, the files in it are only opened after it was created.
+     */
+    private void createDirectories(Path directory) throws IOException {
+        if (!directories.contains(directory)) {
+            synchronized (directories) {
+                if (!directories.contains(directory)) {
+                    Files.createDirectories(directory);
+                    directories.add(directory);
+                }
+            }
+        }
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Digest algorithm " + DIGEST_ALGORITHM + " is not available", e);
+        }
+    }
+
+    private static byte[] hash(Path file) throws IOException {
+        MessageDigest digest = createDigest();
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return digest.digest();
+    }
+
+    private class FileContentOutputStream extends OutputStream {
+
+        private final Path file;
+        private final Path temporaryFile;
+        private final FileChannel channel;
+        private final MessageDigest digest = createDigest();
+        private long size;
+        private boolean closed;
+
+        private FileContentOutputStream(Path file, Path temporaryFile) throws IOException {
+            this.file = file;
+            this.temporaryFile = temporaryFile;
+            this.channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            digest.update(bytes, offset, length);
+            size += length;
+        }
+
+        /**
+         * Completes the file, it is written when the sink is closed unless it is unchanged.
+         */
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            boolean completed = false;
+            try {
+                channel.close();
+                FileContentOutputStream previous;
+                if (isUnchanged()) {
+                    log.debug("Skipping unchanged file " + file);
+                    unchangedFiles.incrementAndGet();
+                    previous = completedStreams.remove(file);
+                } else {
+                    previous = completedStreams.put(file, this);
+                    completed = true;
+                }
+                if (previous != null) {
+                    previous.discard();
+                }
+            } finally {
+                openStreams.remove(this);
+                if (!completed) {
+                    Files.deleteIfExists(temporaryFile);
+                }
+            }
+        }
+
+        private void discard() {
+            closed = true;
+            IOUtils.closeQuietly(channel);
+            try {
+                Files.deleteIfExists(temporaryFile);
+            } catch (IOException e) {
+                log.warn("Could not delete temporary file " + temporaryFile, e);
+            }
+        }
+
+        private boolean isUnchanged() throws IOException {
+            return Files.isRegularFile(file) && Files.size(file) == size && Arrays.equals(hash(file), digest.digest());
+        }
+
+        private void move() throws IOException {
+            try {
+                Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.lazydoc.printer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.lazydoc.config.PrinterConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the configured printers at the same time. The printers share the documentation model and must only read it.
+ * A failing printer does not stop the others, the errors of all printers are thrown together when every printer is
+ * finished.
+ */
+public class PrinterRunner {
+
+    private static final Logger log = LogManager.getLogger(PrinterRunner.class);
+
+    private final int parallelism;
+
+    /**
+     * @param parallelism The number of printers running at the same time, 0 runs all printers at the same time.
+     */
+    public PrinterRunner(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public void run(List<PrinterConfig> printerConfigs) {
+        if (printerConfigs.isEmpty()) {
+            return;
+        }
+        int threads = parallelism > 0 ? Math.min(parallelism, printerConfigs.size()) : printerConfigs.size();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new PrinterThreadFactory(Thread.currentThread().getContextClassLoader()));
+        List<RuntimeException> failures = new ArrayList<>();
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (final PrinterConfig printerConfig : printerConfigs) {
+                results.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        print(printerConfig);
+                        return null;
+                    }
+                }));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                RuntimeException failure = getFailure(printerConfigs.get(i), results.get(i));
+                if (failure != null) {
+                    log.error(failure.getMessage());
+                    failures.add(failure);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        throwFailures(failures, printerConfigs.size());
+    }
+
+    private void print(PrinterConfig printerConfig) throws Exception {
+        long start = System.currentTimeMillis();
+        DocumentationPrinter printer = (DocumentationPrinter) Class.forName(printerConfig.getClassName()).newInstance();
+        printer.print(printerConfig);
+        log.info("Printer " + printerConfig.getClassName() + " finished in " + (System.currentTimeMillis() - start) + " ms");
+    }
+
+    private RuntimeException getFailure(PrinterConfig printerConfig, Future<?> result) {
+        try {
+            result.get();
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while running the printers", e);
+        } catch (ExecutionException e) {
+            return new RuntimeException("Error running printer " + printerConfig.getClassName() + ": " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private void throwFailures(List<RuntimeException> failures, int printers) {
+        if (failures.size() == 1) {
+            throw failures.get(0);
+        }
+        if (failures.size() > 1) {
+            RuntimeException failure = new RuntimeException(failures.size() + " of " + printers + " printers failed, see the suppressed errors");
+            for (RuntimeException printerFailure : failures) {
+                failure.addSuppressed(printerFailure);
+            }
+            throw failure;
+        }
+    }
+
+    private static class PrinterThreadFactory implements ThreadFactory {
+
+        private final ClassLoader classLoader;
+        private final AtomicInteger count = new AtomicInteger();
+
+        PrinterThreadFactory(ClassLoader classLoader) {
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "lazydoc-printer-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package org.lazydoc.printer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Hands the content of the files in chunks through bounded queues to a small pool of writer threads, which write them
+ * to the delegate sink. The files are distributed over the writers by their name, so all chunks of a file and a file
+ * opened again go to the same writer in the order they were written.
+ * The printer renders the next files while the previous ones are written, and blocks when a queue is full, so at most
+ * the queued chunks and the chunk of every open file are held in memory.
+ * The first error of a writer thread is thrown by the next write, by the next close of a file or of the sink, after
+ * an error the delegate is aborted instead of closed.
+ */
+public class QueuedDocumentationSink implements DocumentationSink {
+
+    static final int CHUNK_SIZE = 64 * 1024;
+    private static final int INITIAL_CHUNK_SIZE = 1024;
+
+    private static final Chunk END = new Chunk(null, null, 0, true);
+
+    private final DocumentationSink delegate;
+    private final List<Writer> writers = new ArrayList<>();
+    private volatile IOException failure;
+    private boolean closed;
+
+    public QueuedDocumentationSink(DocumentationSink delegate, int capacity) {
+        this(delegate, capacity, 1);
+    }
+
+    /**
+     * @param capacity The number of chunks queued for all writers together.
+     * @param threads The number of writer threads, the delegate has to be thread safe if there is more than one.
+     */
+    public QueuedDocumentationSink(DocumentationSink delegate, int capacity, int threads) {
+        this.delegate = delegate;
+        for (int i = 1; i <= threads; i++) {
+            Writer writer = new Writer(Math.max(1, capacity / threads));
+            Thread thread = new Thread(writer, "lazydoc-writer-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            writer.thread = thread;
+            writers.add(writer);
+        }
+    }
+
+    @Override
+    public OutputStream open(String filename) throws IOException {
+        if (closed) {
+            throw new IOException("Sink is closed, could not open file " + filename);
+        }
+        checkFailure();
+        return new QueuedOutputStream(filename, writers.get((filename.hashCode() & Integer.MAX_VALUE) % writers.size()));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            stopWriters();
+        } finally {
+            if (failure == null) {
+                delegate.close();
+            } else {
+                delegate.abort();
+            }
+        }
+        checkFailure();
+    }
+
+    /**
+     * The writers skip the queued chunks, the files which were not written yet are discarded.
+     */
+    @Override
+    public void abort() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        fail(new IOException("Sink was aborted"));
+        try {
+            stopWriters();
+        } catch (IOException e) {
+            // the delegate is aborted anyway
+        } finally {
+            delegate.abort();
+        }
+    }
+
+    private void stopWriters() throws IOException {
+        try {
+            for (Writer writer : writers) {
+                writer.queue.put(END);
+            }
+            for (Writer writer : writers) {
+                writer.thread.join();
+            }
+        } catch (InterruptedException e) {
+            fail(new IOException("Interrupted while writing files", e));
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing files", e);
+        }
+    }
+
+    private void put(Chunk chunk) throws IOException {
+        checkFailure();
+        try {
+            chunk.stream.writer.queue.put(chunk);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing files", e);
+        }
+    }
+
+    private void checkFailure() throws IOException {
+        if (failure != null) {
+            throw new IOException(failure.getMessage(), failure);
+        }
+    }
+
+    private static class Chunk {
+
+        private final QueuedOutputStream stream;
+        private final byte[] bytes;
+        private final int length;
+        private final boolean last;
+
+        private Chunk(QueuedOutputStream stream, byte[] bytes, int length, boolean last) {
+            this.stream = stream;
+            this.bytes = bytes;
+            this.length = length;
+            this.last = last;
+        }
+    }
+
+    /**
+     * Collects the written bytes into chunks, which are queued when they are full and when the stream is closed.
+     * Flushing does not queue the chunk, it would only make the chunks smaller.
+     */
+    private class QueuedOutputStream extends OutputStream {
+
+        private final String filename;
+        private final Writer writer;
+        private byte[] buffer = new byte[INITIAL_CHUNK_SIZE];
+        private int count;
+        private boolean closed;
+        // only used by the writer thread
+        private OutputStream target;
+
+        private QueuedOutputStream(String filename, Writer writer) {
+            this.filename = filename;
+            this.writer = writer;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            ensureSpace();
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                ensureSpace();
+                int n = Math.min(length, buffer.length - count);
+                System.arraycopy(bytes, offset, buffer, count, n);
+                count += n;
+                offset += n;
+                length -= n;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            put(new Chunk(this, buffer, count, true));
+            buffer = null;
+        }
+
+        private void ensureSpace() throws IOException {
+            if (closed) {
+                throw new IOException("File " + filename + " is closed");
+            }
+            if (count < buffer.length) {
+                return;
+            }
+            if (buffer.length < CHUNK_SIZE) {
+                buffer = Arrays.copyOf(buffer, Math.min(buffer.length * 2, CHUNK_SIZE));
+            } else {
+                put(new Chunk(this, buffer, count, false));
+                buffer = new byte[CHUNK_SIZE];
+                count = 0;
+            }
+        }
+    }
+
+    private class Writer implements Runnable {
+
+        private final BlockingQueue<Chunk> queue;
+        private Thread thread;
+
+        private Writer(int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                Chunk chunk;
+                try {
+                    chunk = queue.take();
+                } catch (InterruptedException e) {
+                    fail(new IOException("Interrupted while writing files", e));
+                    continue;
+                }
+                if (chunk == END) {
+                    return;
+                }
+                write(chunk);
+            }
+        }
+
+        /**
+         * After an error the chunks are only taken from the queue, so that the printer does not block. The open files
+         * are not closed, they are discarded by aborting the delegate.
+         */
+        private void write(Chunk chunk) {
+            QueuedOutputStream stream = chunk.stream;
+            if (failure != null) {
+                return;
+            }
+            try {
+                if (stream.target == null) {
+                    stream.target = delegate.open(stream.filename);
+                }
+                stream.target.write(chunk.bytes, 0, chunk.length);
+                if (chunk.last) {
+                    stream.target.close();
+                }
+            } catch (IOException | RuntimeException e) {
+                fail(new IOException("Error writing file " + stream.filename, e));
+            }
+        }
+    }
+
+    private synchronized void fail(IOException e) {
+        if (failure == null) {
+            failure = e;
+        }
+    }
+}
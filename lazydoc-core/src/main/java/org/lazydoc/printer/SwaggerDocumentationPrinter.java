@@ -1,6 +1,9 @@
 package org.lazydoc.printer;
 
-import org.apache.commons.io.FileUtils;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.lazydoc.config.PrinterConfig;
@@ -8,15 +11,23 @@ import org.lazydoc.model.*;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.*;
 
-import static org.apache.commons.lang3.StringUtils.join;
-
+/**
+ * Writes the Swagger JSON of the domains, operations, parameters and data types with a streaming
+ * {@link JsonGenerator} straight to the files. The files are JSP fragments, the page directives and the includes of
+ * the other files are written raw.
+ */
 public class SwaggerDocumentationPrinter extends DocumentationPrinter {
 
 	// TODO update SwaggerDocumentationPrinter
 
+    private static final JsonFactory jsonFactory = new JsonFactory();
+    private static final String PAGE_DIRECTIVE = "<%@ page contentType=\"application/json; charset=UTF-8\" %>\n";
+
     private Set<String> models = new HashSet<>();
+    private Map<String, DocParameter> parameters = new LinkedHashMap<>();
 
     @Override
     public void print(PrinterConfig printerConfig) throws Exception {
@@ -29,94 +40,101 @@ public class SwaggerDocumentationPrinter extends DocumentationPrinter {
     }
 
 	private void printSwaggerToJsp() throws Exception {
-		addDomainsAndDataTypesToFilelist();
-		createDiscover();
+		DocumentationSink sink = openSink(FilenameUtils.normalize(printerConfig.getOutputPath()));
+		try {
+			writeDomainsAndDataTypes();
+			createDiscover();
+		} catch (Exception e) {
+			sink.abort();
+			throw e;
+		}
+		sink.close();
         createAndWriteViewController();
-		writeFiles(FilenameUtils.normalize(printerConfig.getOutputPath()));
 	}
 
-	private void addDomainsAndDataTypesToFilelist() {
+	private JsonGenerator createGenerator(String filename) throws IOException {
+		JsonGenerator json = jsonFactory.createGenerator(openFile(filename));
+		json.useDefaultPrettyPrinter();
+		return json;
+	}
+
+	private void writeDomainsAndDataTypes() throws IOException {
 		for (DocDomain domain : printerConfig.getDomains().values()) {
 			if (domain.getSubDomains().isEmpty()) {
-				files.put("api/" + domain.getDomain().toLowerCase() + ".jsp", printDomainToJson(domain));
+				writeDomainOrSubDomain("api/" + domain.getDomain().toLowerCase() + ".jsp", domain.getOperations(), domain.getDomain());
 			} else {
 				for (DocSubDomain subDomain : domain.getSubDomains().values()) {
-					files.put("api/" + (domain.getDomain() + "-" + subDomain.getSubDomain()).toLowerCase() + ".jsp",
-							printDomainToJson(subDomain));
+					String domainName = domain.getDomain() + "-" + subDomain.getSubDomain();
+					writeDomainOrSubDomain("api/" + domainName.toLowerCase() + ".jsp", subDomain.getOperations(), domainName);
 				}
 			}
 		}
+		for (DocParameter parameter : parameters.values()) {
+			writeParameter(parameter);
+		}
 		for (DocDataType dataType : printerConfig.getDataTypes().values()) {
-			files.put(getDataTypeFilename(dataType.getName()), printDataTypeToJson(dataType));
+			writeDataType(dataType);
 		}
 	}
 
-	public String printDomainToJson(DocDomain domain) {
-		return printDomainOrSubDomainToJson(domain.getOperations(), domain.getDomain());
-	}
-
-	public String printSubDomainToJson(Map<String, String> files, DocSubDomain subDomain) {
-		return printDomainOrSubDomainToJson(subDomain.getOperations(), subDomain.getDomain() + "-" + subDomain.getSubDomain());
-	}
-
-	public String printDomainOrSubDomainToJson(Set<DocOperation> docOperations, String domainName) {
+	private void writeDomainOrSubDomain(String filename, Set<DocOperation> docOperations, String domainName) throws IOException {
         models.clear();
         String basePath = printerConfig.getParams().get("swagger.basepath");
         if(StringUtils.isBlank(basePath)) {
             throw new RuntimeException("Please provide the swagger.basepath in the printer config params");
         }
 
-		String json = "<%@ page contentType=\"application/json; charset=UTF-8\" %>\n";
-		json += "{\n";
-        json += "   \"basePath\": \"" + basePath + "\",\n";
-		json += "   \"apis\": [\n";
-		List<String> apis = new ArrayList<String>();
-        for (DocOperation operation : docOperations) {
-            apis.add(printApiOperationToJson(domainName, operation));
-        }
-        json += join(apis, ",\n");
-        json += "   ],\n";
-        json += "   \"models\": {\n";
-        json += StringUtils.join(models, ",");
-        json += "   }\n";
-        json += "}\n";
-
-		return json;
+		try (JsonGenerator json = createGenerator(filename)) {
+			json.writeRaw(PAGE_DIRECTIVE);
+			json.writeStartObject();
+			json.writeStringField("basePath", basePath);
+			json.writeArrayFieldStart("apis");
+			for (DocOperation operation : docOperations) {
+				writeApiOperation(json, domainName, operation);
+			}
+			json.writeEndArray();
+			json.writeObjectFieldStart("models");
+			json.writeRaw(StringUtils.join(models, ","));
+			json.writeEndObject();
+			json.writeEndObject();
+			json.writeRaw('\n');
+		}
 	}
 
-	public String printApiOperationToJson(String domainName, DocOperation operation) {
-		operation.setFileName("api/_ops/" + domainName + "/" + operation.getNickname() + ".jsp");
-		String json = "       {\n";
-		json += "           \"path\": \"" + operation.getPath() + "\",\n";
-		json += "           \"description\": \"" + operation.getShortDescription() + "\",\n";
-		json += "           \"operations\": [\n";
-		json += "                <%@include file=\"" + operation.getFileName().replaceAll("api/", "") + "\" %>";
-		json += "           ]\n";
-		json += "       }";
-		files.put(operation.getFileName(), printOperationToJson(operation));
-		return json;
+	private void writeApiOperation(JsonGenerator json, String domainName, DocOperation operation) throws IOException {
+		String filename = "api/_ops/" + domainName + "/" + operation.getNickname() + ".jsp";
+		json.writeStartObject();
+		json.writeStringField("path", operation.getPath());
+		json.writeStringField("description", operation.getShortDescription());
+		json.writeArrayFieldStart("operations");
+		json.writeRawValue(getInclude(filename.replaceAll("api/", "")));
+		json.writeEndArray();
+		json.writeEndObject();
+		writeOperation(filename, operation);
 	}
 
-	public String printOperationToJson(DocOperation operation) {
-		List<String> parameters = new ArrayList<String>();
-		String json = "{\n";
-		json += "   \"method\": \"" + operation.getHttpMethod() + "\",\n";
-		json += "   \"nickname\": \"" + operation.getNickname() + "\",\n";
-		json += "   \"responseClass\": \"" + getOperationResponse(operation.getOperationResponse()) + "\",\n";
-		json += "   \"parameters\": [\n";
-		for (DocParameter parameter : operation.getParameters()) {
-			parameters.add("       <%@include file=\"../../_params/" + parameter.getReferenceName() + ".jsp\" %>");
-			files.put("api/_params/" + parameter.getReferenceName() + ".jsp", printParameterToJson(parameter));
+	private void writeOperation(String filename, DocOperation operation) throws IOException {
+		try (JsonGenerator json = createGenerator(filename)) {
+			json.writeStartObject();
+			json.writeStringField("method", operation.getHttpMethod());
+			json.writeStringField("nickname", operation.getNickname());
+			json.writeStringField("responseClass", getOperationResponse(operation.getOperationResponse()));
+			json.writeArrayFieldStart("parameters");
+			for (DocParameter parameter : operation.getParameters()) {
+				json.writeRawValue(getInclude("../../_params/" + parameter.getReferenceName() + ".jsp"));
+				parameters.put(parameter.getReferenceName(), parameter);
+				addModelOfParameter(parameter.getDataType());
+			}
+			json.writeEndArray();
+			json.writeStringField("summary", operation.getShortDescription());
+			json.writeStringField("notes", operation.getNotes());
+			json.writeStringField("authorization", "");
+			json.writeArrayFieldStart("errorResponses");
+			json.writeEndArray();
+			json.writeStringField("level", "");
+			json.writeEndObject();
+			json.writeRaw('\n');
 		}
-		json += join(parameters, ",\n") + "\n";
-		json += "   ],\n";
-		json += "   \"summary\": \"" + operation.getShortDescription() + "\",\n";
-		json += "   \"notes\": \"" + operation.getNotes() + "\",\n";
-		json += "   \"authorization\": \"\",\n";
-		json += "   \"errorResponses\": [],\n";
-		json += "   \"level\": \"\"\n";
-		json += "}\n";
-		return json;
 	}
 
 	private String getOperationResponse(DocOperationResponse operationResponse) {
@@ -126,70 +144,93 @@ public class SwaggerDocumentationPrinter extends DocumentationPrinter {
 		return operationResponse.getResponseType();
 	}
 
-	public String printParameterToJson(DocParameter parameter) {
-		String json = "{\n";
-		String paramType = parameter.getParamType();
-		json += "   \"paramType\": \"" + paramType + "\",\n";
-		if (paramType.equals("body")) {
-			json += "   \"name\": \"requestBody\",\n";
-		} else {
-			json += "   \"name\": \"" + parameter.getName() + "\",\n";
+	/**
+	 * Operations share the file of a parameter with the same reference name, it is written once with the parameter of
+	 * the last operation.
+	 */
+	private void writeParameter(DocParameter parameter) throws IOException {
+		try (JsonGenerator json = createGenerator("api/_params/" + parameter.getReferenceName() + ".jsp")) {
+			String paramType = parameter.getParamType();
+			json.writeStartObject();
+			json.writeStringField("paramType", paramType);
+			if (paramType.equals("body")) {
+				json.writeStringField("name", "requestBody");
+			} else {
+				json.writeStringField("name", parameter.getName());
+			}
+			json.writeStringField("description", parameter.getDescription());
+			json.writeStringField("type", parameter.getDataType());
+			json.writeBooleanField("required", parameter.isRequired());
+			json.writeBooleanField("allowMultiple", parameter.isAllowMultiple());
+			json.writeBooleanField("list", parameter.isList());
+			json.writeEndObject();
+			json.writeRaw('\n');
 		}
-		json += "   \"description\": \"" + parameter.getDescription() + "\",\n";
-		json += "   \"type\": \"" + parameter.getDataType() + "\",\n";
-		json += "   \"required\": " + parameter.isRequired() + ",\n";
-		json += "   \"allowMultiple\": " + parameter.isAllowMultiple() + ",\n";
-		json += "   \"list\": " + parameter.isList() + "\n";
-		json += "}\n";
-
-        addModelOfParameter(parameter.getDataType());
-
-        return json;
 	}
 
     private void addModelOfParameter(String dataType) {
         DocDataType docDataType = printerConfig.getDataTypes().get(dataType);
         if (docDataType != null) {
-            models.add("           <%@include file=\"" + getDataTypeFilename(dataType).replaceAll("api/", "") + "\" %>");
+            models.add(getInclude(getDataTypeFilename(dataType).replaceAll("api/", "")));
             for(DocProperty property : docDataType.getProperties()) {
                 addModelOfParameter(property.getType());
             }
         }
     }
 
-    public String printDataTypeToJson(DocDataType dataType) {
-		List<String> properties = new ArrayList<String>();
-		String json = "\"" + dataType.getName() + "\": {\n";
-		json += "   \"properties\": {\n";
-		for (DocProperty property : dataType.getProperties()) {
-			properties.add(printPropertyToJson(property));
+    /**
+     * A data type is written as member of the models object it is included in, so the file starts with the name.
+     */
+    private void writeDataType(DocDataType dataType) throws IOException {
+		try (JsonGenerator json = createGenerator(getDataTypeFilename(dataType.getName()))) {
+			json.writeRaw("\"" + new String(JsonStringEncoder.getInstance().quoteAsString(dataType.getName())) + "\" : ");
+			json.writeStartObject();
+			json.writeObjectFieldStart("properties");
+			for (DocProperty property : dataType.getProperties()) {
+				writeProperty(json, property);
+			}
+			json.writeEndObject();
+			json.writeEndObject();
+			json.writeRaw('\n');
 		}
-		json += join(properties, ",\n") + "\n";
-		json += "   }\n";
-		json += "}\n";
-		return json;
 	}
 
-	public String printPropertyToJson(DocProperty property) {
-		String json = "         \"" + property.getName() + "\": {\n";
+	private void writeProperty(JsonGenerator json, DocProperty property) throws IOException {
+		json.writeObjectFieldStart(property.getName());
 		if (property.isList()) {
-			json += "              \"type\": \"List[" + property.getType() + "]\",\n";
+			json.writeStringField("type", "List[" + property.getType() + "]");
 		} else {
-			json += "              \"type\": \"" + property.getType() + "\",\n";
+			json.writeStringField("type", property.getType());
 		}
 		if (property.hasEnumValues()) {
-			json += "              \"enum\": [\"" + property.getEnumValues() + "\"],\n";
+			json.writeArrayFieldStart("enum");
+			for (DocEnum enumValue : property.getEnumValues()) {
+				json.writeString(enumValue.getValue());
+			}
+			json.writeEndArray();
 		}
-		json += "              \"description\": \"" + property.getDescription() + "\",\n";
+		json.writeStringField("description", property.getDescription());
 		if (property.hasSample()) {
-			json += "              \"sample\": " + property.getSampleString() + ",\n";
+			json.writeFieldName("sample");
+			if (property.getSample().length == 1) {
+				json.writeString(property.getSample()[0]);
+			} else {
+				json.writeStartArray();
+				for (String sample : property.getSample()) {
+					json.writeString(sample);
+				}
+				json.writeEndArray();
+			}
 		}
-		json += "              \"required\": " + property.isRequired() + ",\n";
-		json += "              \"request\": " + property.isRequest() + ",\n";
-		json += "              \"response\": " + property.isResponse() + ",\n";
-		json += "              \"list\": " + property.isList() + "\n";
-		json += "           }";
-		return json;
+		json.writeBooleanField("required", property.isRequired());
+		json.writeBooleanField("request", property.isRequest());
+		json.writeBooleanField("response", property.isResponse());
+		json.writeBooleanField("list", property.isList());
+		json.writeEndObject();
+	}
+
+	private String getInclude(String filename) {
+		return "<%@include file=\"" + filename + "\" %>";
 	}
 
 	private void createAndWriteViewController() throws IOException {
@@ -213,41 +254,45 @@ public class SwaggerDocumentationPrinter extends DocumentationPrinter {
             }
 		}
 
-        File viewControllers = new File(viewPropertiesFilename);
-		viewControllers.getParentFile().mkdirs();
-		FileUtils.writeLines(viewControllers, mvcViews);
+        File viewControllers = new File(viewPropertiesFilename).getAbsoluteFile();
+		FileDocumentationSink sink = new FileDocumentationSink(viewControllers.getParent());
+		try (OutputStream out = sink.open(File.separator + viewControllers.getName())) {
+			IOUtils.writeLines(mvcViews, null, out, "UTF-8");
+		} catch (IOException | RuntimeException e) {
+			sink.abort();
+			throw e;
+		}
+		sink.close();
 	}
 
     private void addViewMapping(List<String> mvcViews, String domain, String swaggerDirectoryName) {
         mvcViews.add("/discover/" + StringUtils.capitalize(domain) + "=/" + swaggerDirectoryName + "/" + domain.toLowerCase());
     }
 
-    private void createDiscover() {
-		List<String> apis = new ArrayList<String>();
-		for (DocDomain domain : printerConfig.getDomains().values()) {
-			if (!domain.getOperations().isEmpty()) {
-				apis.add(createApiPathJson(domain));
-			}
-			for (DocSubDomain subDomain : domain.getSubDomains().values()) {
-				apis.add(createApiPathJson(subDomain));
+    private void createDiscover() throws IOException {
+		try (JsonGenerator json = createGenerator("discover.jsp")) {
+			json.writeRaw(PAGE_DIRECTIVE);
+			json.writeStartObject();
+			json.writeArrayFieldStart("apis");
+			for (DocDomain domain : printerConfig.getDomains().values()) {
+				if (!domain.getOperations().isEmpty()) {
+					writeApiPath(json, domain);
+				}
+				for (DocSubDomain subDomain : domain.getSubDomains().values()) {
+					writeApiPath(json, subDomain);
+				}
 			}
+			json.writeEndArray();
+			json.writeEndObject();
+			json.writeRaw('\n');
 		}
-
-		String json = "<%@ page contentType=\"application/json; charset=UTF-8\" %>\n";
-		json += "{\n";
-		json += "       \"apis\":[\n";
-		json += join(apis, ",\n") + "\n";
-		json += "       ]\n";
-		json += "}\n";
-		files.put("discover.jsp", json);
 	}
 
-	private String createApiPathJson(DocDomain domain) {
-		String api = "          {\n";
-		api += "                \"path\": \"/" + StringUtils.capitalize(domain.getDomain()) + "\",\n";
-		api += "                \"description\": \"" + domain.getDescription() + "\"\n";
-		api += "          }";
-		return api;
+	private void writeApiPath(JsonGenerator json, DocDomain domain) throws IOException {
+		json.writeStartObject();
+		json.writeStringField("path", "/" + StringUtils.capitalize(domain.getDomain()));
+		json.writeStringField("description", domain.getDescription());
+		json.writeEndObject();
 	}
 
 }
@@ -0,0 +1,274 @@
+package org.lazydoc.printer;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Writes indented XML to a stream with a {@link XMLStreamWriter}, which escapes the text and attribute values.
+ * Elements with child elements are indented by four spaces per level, elements with text are written on one line.
+ * The layout is the one the identity transformer with indentation produced.
+ */
+class XmlWriter implements Closeable {
+
+    private static final XMLOutputFactory factory = XMLOutputFactory.newInstance();
+    private static final XMLInputFactory markupFactory = createMarkupFactory();
+    private static final String INDENT = "    ";
+
+    private final OutputStream out;
+    private final XMLStreamWriter writer;
+    private final Deque<Boolean> hasChildren = new ArrayDeque<>();
+
+    XmlWriter(OutputStream out) {
+        this.out = out;
+        try {
+            this.writer = factory.createXMLStreamWriter(out, "UTF-8");
+            writer.writeStartDocument("UTF-8", "1.0");
+        } catch (XMLStreamException e) {
+            throw new RuntimeException("Error writing XML", e);
+        }
+    }
+
+    /**
+     * @param attributes The names and values of the attributes in turns.
+     */
+    XmlWriter startElement(String name, String... attributes) {
+        try {
+            indent();
+            writer.writeStartElement(name);
+            writeAttributes(attributes);
+            hasChildren.push(false);
+        } catch (XMLStreamException e) {
+            throw new RuntimeException("Error writing XML", e);
+        }
+        return this;
+    }
+
+    XmlWriter emptyElement(String name, String... attributes) {
+        try {
+            indent();
+            writer.writeEmptyElement(name);
+            writeAttributes(attributes);
+        } catch (XMLStreamException e) {
+            throw new RuntimeException("Error writing XML", e);
+        }
+        return this;
+    }
+
+    /**
+     * Writes an element with text, an element with empty text as empty element.
+     */
+    XmlWriter element(String name, String text, String... attributes) {
+        String value = String.valueOf(text);
+        if (value.isEmpty()) {
+            return emptyElement(name, attributes);
+        }
+        try {
+            indent();
+            writer.writeStartElement(name);
+            writeAttributes(attributes);
+            writer.writeCharacters(value);
+            writer.writeEndElement();
+        } catch (XMLStreamException e) {
+            throw new RuntimeException("Error writing XML", e);
+        }
+        return this;
+    }
+
+    /**
+     * Writes an element with text which may contain markup, like the DocBook elements in the descriptions. The
+     * markup is kept and the layout is the one the identity transformer with indentation produced for mixed content.
+     * An ampersand which does not start an entity or character reference is written as text, markup which is not
+     * well-formed is written as text.
+     */
+    XmlWriter markupElement(String name, String markup, String... attributes) {
+        MarkupNode node;
+        try {
+            node = parseMarkup(name, attributes, String.valueOf(markup));
+        } catch (XMLStreamException e) {
+            return element(name, markup, attributes);
+        }
+        try {
+            writeMarkupNode(node);
+        } catch (XMLStreamException e) {
+            throw new RuntimeException("Error writing XML", e);
+        }
+        return this;
+    }
+
+    XmlWriter processingInstruction(String target, String data) {
+        try {
+            indent();
+            writer.writeProcessingInstruction(target, data);
+        } catch (XMLStreamException e) {
+            throw new RuntimeException("Error writing XML", e);
+        }
+        return this;
+    }
+
+    XmlWriter endElement() {
+        try {
+            if (hasChildren.pop()) {
+                newLine(hasChildren.size());
+            }
+            writer.writeEndElement();
+        } catch (XMLStreamException e) {
+            throw new RuntimeException("Error writing XML", e);
+        }
+        return this;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            writer.writeEndDocument();
+            writer.writeCharacters("\n");
+            writer.close();
+        } catch (XMLStreamException e) {
+            throw new IOException("Error writing XML", e);
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * The root element follows the XML declaration on the same line.
+     */
+    private void indent() throws XMLStreamException {
+        if (!hasChildren.isEmpty()) {
+            hasChildren.pop();
+            hasChildren.push(true);
+            newLine(hasChildren.size());
+        }
+    }
+
+    private void newLine(int depth) throws XMLStreamException {
+        StringBuilder indentation = new StringBuilder("\n");
+        for (int i = 0; i < depth; i++) {
+            indentation.append(INDENT);
+        }
+        writer.writeCharacters(indentation.toString());
+    }
+
+    private void writeMarkupNode(MarkupNode node) throws XMLStreamException {
+        if (!node.hasChildElements()) {
+            element(node.name, node.getText(), node.attributes);
+            return;
+        }
+        startElement(node.name, node.attributes);
+        for (Object child : node.children) {
+            if (child instanceof MarkupNode) {
+                writeMarkupNode((MarkupNode) child);
+            } else if (!((String) child).trim().isEmpty()) {
+                indent();
+                writer.writeCharacters((String) child);
+            }
+        }
+        endElement();
+    }
+
+    private static MarkupNode parseMarkup(String name, String[] attributes, String markup) throws XMLStreamException {
+        String fragment = "<" + name + ">" + markup.replaceAll("&(?!#?\\w+;)", "&amp;") + "</" + name + ">";
+        XMLStreamReader reader = markupFactory.createXMLStreamReader(new StringReader(fragment));
+        try {
+            Deque<MarkupNode> parents = new ArrayDeque<>();
+            MarkupNode node = null;
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        MarkupNode child = new MarkupNode(getName(reader.getPrefix(), reader.getLocalName()), parents.isEmpty() ? attributes : readAttributes(reader));
+                        if (!parents.isEmpty()) {
+                            parents.peek().children.add(child);
+                        }
+                        parents.push(child);
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        node = parents.pop();
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.CDATA:
+                    case XMLStreamConstants.SPACE:
+                        if (!parents.isEmpty()) {
+                            parents.peek().children.add(reader.getText());
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+            return node;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static String[] readAttributes(XMLStreamReader reader) {
+        String[] attributes = new String[reader.getAttributeCount() * 2];
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            attributes[i * 2] = getName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i));
+            attributes[i * 2 + 1] = reader.getAttributeValue(i);
+        }
+        return attributes;
+    }
+
+    private static String getName(String prefix, String localName) {
+        return prefix == null || prefix.isEmpty() ? localName : prefix + ":" + localName;
+    }
+
+    /**
+     * The markup of the descriptions uses prefixes like xlink without declaring them.
+     */
+    private static XMLInputFactory createMarkupFactory() {
+        XMLInputFactory markupFactory = XMLInputFactory.newInstance();
+        markupFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+        markupFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        markupFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        return markupFactory;
+    }
+
+    private void writeAttributes(String[] attributes) throws XMLStreamException {
+        for (int i = 0; i < attributes.length; i += 2) {
+            writer.writeAttribute(attributes[i], attributes[i + 1]);
+        }
+    }
+
+    private static class MarkupNode {
+
+        private final String name;
+        private final String[] attributes;
+        private final List<Object> children = new ArrayList<>();
+
+        MarkupNode(String name, String[] attributes) {
+            this.name = name;
+            this.attributes = attributes;
+        }
+
+        boolean hasChildElements() {
+            for (Object child : children) {
+                if (child instanceof MarkupNode) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        String getText() {
+            StringBuilder text = new StringBuilder();
+            for (Object child : children) {
+                text.append(child);
+            }
+            return text.toString();
+        }
+    }
+}
@@ -1,20 +1,20 @@
 package org.lazydoc.reporter;
 
 import java.util.Set;
-import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 public class ControllerDocumentationProgress {
 
-    private Class<?> controller;
-    private boolean undocumented;
-    private boolean ignored;
-    private String ignoreReason;
-    private Set<String> documentedMethods = new TreeSet<>();
-    private Set<String> undocumentedMethods = new TreeSet<>();
-    private Set<String> ignoredMethods = new TreeSet<>();
-    private Set<String> documentedErrorHandlers = new TreeSet<>();
-    private Set<String> undocumentedErrorHandlers = new TreeSet<>();
-    private Set<String> ignoredErrorHandlers = new TreeSet<>();
+    private final Class<?> controller;
+    private volatile boolean undocumented;
+    private volatile boolean ignored;
+    private volatile String ignoreReason;
+    private Set<String> documentedMethods = new ConcurrentSkipListSet<>();
+    private Set<String> undocumentedMethods = new ConcurrentSkipListSet<>();
+    private Set<String> ignoredMethods = new ConcurrentSkipListSet<>();
+    private Set<String> documentedErrorHandlers = new ConcurrentSkipListSet<>();
+    private Set<String> undocumentedErrorHandlers = new ConcurrentSkipListSet<>();
+    private Set<String> ignoredErrorHandlers = new ConcurrentSkipListSet<>();
 
     public ControllerDocumentationProgress(Class<?> controller) {
         this.controller = controller;
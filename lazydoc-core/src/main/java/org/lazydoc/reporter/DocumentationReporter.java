@@ -5,68 +5,66 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.text.DecimalFormat;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class DocumentationReporter {
 
     private static final Logger log = LogManager.getLogger(DocumentationReporter.class);
 
 
-    private Map<Class<?>, ControllerDocumentationProgress> controllersProgress = new HashMap<>();
-    private Map<Class<?>, ModelDocumentationProgress> modelsProgress = new HashMap<>();
+    private final ConcurrentMap<Class<?>, ControllerDocumentationProgress> controllersProgress = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, ModelDocumentationProgress> modelsProgress = new ConcurrentHashMap<>();
 
-    private int controllers = 0;
-    private int ignoredControllers = 0;
-    private int undocumentedControllers = 0;
-    private int documentedMethods = 0;
-    private int ignoredMethods = 0;
-    private int undocumentedMethods = 0;
-    private int documentedErrorHandlers = 0;
-    private int ignoredErrorHandlers = 0;
-    private int undocumentedErrorHandlers = 0;
-    private int models = 0;
+    private final StripedCounter ignoredControllers = new StripedCounter();
+    private final StripedCounter undocumentedControllers = new StripedCounter();
+    private final StripedCounter documentedMethods = new StripedCounter();
+    private final StripedCounter ignoredMethods = new StripedCounter();
+    private final StripedCounter undocumentedMethods = new StripedCounter();
+    private final StripedCounter documentedErrorHandlers = new StripedCounter();
+    private final StripedCounter ignoredErrorHandlers = new StripedCounter();
+    private final StripedCounter undocumentedErrorHandlers = new StripedCounter();
 
     public void addUndocumentedController(Class<?> controller) {
         getControllerDocumentationProgress(controller).setUndocumented(true);
-        undocumentedControllers++;
+        undocumentedControllers.increment();
     }
 
     public void addIgnoredController(Class<?> controller, String reason) {
         ControllerDocumentationProgress controllerDocumentationProgress = getControllerDocumentationProgress(controller);
         controllerDocumentationProgress.setIgnored(true);
         controllerDocumentationProgress.setIgnoreReason(reason);
-        ignoredControllers++;
+        ignoredControllers.increment();
     }
 
     public void addUndocumentedErrorHandler(Class<?> controller, String errorHandler) {
         getControllerDocumentationProgress(controller).getUndocumentedErrorHandlers().add(errorHandler);
-        undocumentedErrorHandlers++;
+        undocumentedErrorHandlers.increment();
     }
 
     public void addIgnoredErrorHandler(Class<?> controller, String errorHandler) {
         getControllerDocumentationProgress(controller).getIgnoredErrorHandlers().add(errorHandler);
-        ignoredErrorHandlers++;
+        ignoredErrorHandlers.increment();
     }
 
     public void addDocumentedErrorHandler(Class<?> controller, String errorHandler) {
         getControllerDocumentationProgress(controller).getDocumentedErrorHandlers().add(errorHandler);
-        documentedErrorHandlers++;
+        documentedErrorHandlers.increment();
     }
 
     public void addDocumentedMethod(Class<?> controller, String method) {
         getControllerDocumentationProgress(controller).getDocumentedMethods().add(method);
-        documentedMethods++;
+        documentedMethods.increment();
     }
 
     public void addIgnoredMethod(Class<?> controller, String method) {
         getControllerDocumentationProgress(controller).getIgnoredMethods().add(method);
-        ignoredMethods++;
+        ignoredMethods.increment();
     }
 
     public void addUndocumentedMethod(Class<?> controller, String method) {
         getControllerDocumentationProgress(controller).getUndocumentedMethods().add(method);
-        undocumentedMethods++;
+        undocumentedMethods.increment();
     }
 
     public void addDocumentedField(Class<?> model, String fieldName) {
@@ -97,9 +95,11 @@ public class DocumentationReporter {
     private ControllerDocumentationProgress getControllerDocumentationProgress(Class<?> controller) {
         ControllerDocumentationProgress controllerProgress = controllersProgress.get(controller);
         if (controllerProgress == null) {
-            controllerProgress = new ControllerDocumentationProgress(controller);
-            controllersProgress.put(controller, controllerProgress);
-            controllers++;
+            ControllerDocumentationProgress newControllerProgress = new ControllerDocumentationProgress(controller);
+            controllerProgress = controllersProgress.putIfAbsent(controller, newControllerProgress);
+            if (controllerProgress == null) {
+                controllerProgress = newControllerProgress;
+            }
         }
         return controllerProgress;
     }
@@ -107,14 +107,26 @@ public class DocumentationReporter {
     private ModelDocumentationProgress getModelDocumentationProgress(Class<?> model) {
         ModelDocumentationProgress modelDocumentationProgress = modelsProgress.get(model);
         if (modelDocumentationProgress == null) {
-            modelDocumentationProgress = new ModelDocumentationProgress(model);
-            modelsProgress.put(model, modelDocumentationProgress);
-            models++;
+            ModelDocumentationProgress newModelDocumentationProgress = new ModelDocumentationProgress(model);
+            modelDocumentationProgress = modelsProgress.putIfAbsent(model, newModelDocumentationProgress);
+            if (modelDocumentationProgress == null) {
+                modelDocumentationProgress = newModelDocumentationProgress;
+            }
         }
         return modelDocumentationProgress;
     }
 
     public void printSummaryReport() {
+        int controllers = controllersProgress.size();
+        int models = modelsProgress.size();
+        int ignoredControllers = this.ignoredControllers.sum();
+        int undocumentedControllers = this.undocumentedControllers.sum();
+        int documentedMethods = this.documentedMethods.sum();
+        int ignoredMethods = this.ignoredMethods.sum();
+        int undocumentedMethods = this.undocumentedMethods.sum();
+        int documentedErrorHandlers = this.documentedErrorHandlers.sum();
+        int ignoredErrorHandlers = this.ignoredErrorHandlers.sum();
+        int undocumentedErrorHandlers = this.undocumentedErrorHandlers.sum();
         int undocumentedFields = 0;
         int ignoredFields = 0;
         int documentedFields = 0;
@@ -1,14 +1,14 @@
 package org.lazydoc.reporter;
 
 import java.util.Set;
-import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 public class ModelDocumentationProgress {
 
-    private Class<?> modelClass;
-    private Set<String> documentedFields = new TreeSet<>();
-    private Set<String> undocumentedFields = new TreeSet<>();
-    private Set<String> ignoredFields = new TreeSet<>();
+    private final Class<?> modelClass;
+    private Set<String> documentedFields = new ConcurrentSkipListSet<>();
+    private Set<String> undocumentedFields = new ConcurrentSkipListSet<>();
+    private Set<String> ignoredFields = new ConcurrentSkipListSet<>();
 
     public ModelDocumentationProgress(Class<?> modelClass) {
         this.modelClass = modelClass;
@@ -0,0 +1,38 @@
+package org.lazydoc.reporter;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counter which spreads increments of different threads over separate cells, so that many threads can count
+ * without contending on a single value.
+ */
+class StripedCounter {
+
+    private static final int CELL_PADDING = 16;
+
+    private final int mask;
+    private final AtomicLongArray cells;
+
+    StripedCounter() {
+        int stripes = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1)) << 1;
+        this.mask = stripes - 1;
+        this.cells = new AtomicLongArray(stripes * CELL_PADDING);
+    }
+
+    public void increment() {
+        cells.incrementAndGet(cellIndex());
+    }
+
+    public int sum() {
+        long sum = 0;
+        for (int i = 0; i < cells.length(); i += CELL_PADDING) {
+            sum += cells.get(i);
+        }
+        return (int) sum;
+    }
+
+    private int cellIndex() {
+        long id = Thread.currentThread().getId();
+        return (int) ((id ^ (id >>> 16)) & mask) * CELL_PADDING;
+    }
+}
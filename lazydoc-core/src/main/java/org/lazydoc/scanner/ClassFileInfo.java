@@ -0,0 +1,59 @@
+package org.lazydoc.scanner;
+
+import java.lang.reflect.Modifier;
+import java.util.Set;
+
+public class ClassFileInfo {
+
+    private static final int ACC_ANNOTATION = 0x2000;
+
+    private final String className;
+    private final String superClassName;
+    private final int accessFlags;
+    private final Set<String> annotations;
+
+    public ClassFileInfo(String className, String superClassName, int accessFlags, Set<String> annotations) {
+        this.className = className;
+        this.superClassName = superClassName;
+        this.accessFlags = accessFlags;
+        this.annotations = annotations;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public String getSuperClassName() {
+        return superClassName;
+    }
+
+    public int getAccessFlags() {
+        return accessFlags;
+    }
+
+    public Set<String> getAnnotations() {
+        return annotations;
+    }
+
+    public boolean isAnnotatedWith(String annotationClassName) {
+        return annotations.contains(annotationClassName);
+    }
+
+    public boolean isAnnotation() {
+        return (accessFlags & ACC_ANNOTATION) != 0;
+    }
+
+    public boolean isAbstract() {
+        return Modifier.isAbstract(accessFlags);
+    }
+
+    @Override
+    public String toString() {
+        return "ClassFileInfo{" +
+                "className='" + className + '\'' +
+                ", superClassName='" + superClassName + '\'' +
+                ", accessFlags=" + accessFlags +
+                ", annotations=" + annotations +
+                '}';
+    }
+}
@@ -0,0 +1,131 @@
+package org.lazydoc.scanner;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Reads the class name, super class and the runtime visible class annotations straight from the
+ * class file bytes without loading the class.
+ */
+public class ClassFileReader {
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    private final ByteBuffer buffer;
+    private ConstantPool constantPool;
+
+    private ClassFileReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    public static ClassFileInfo read(byte[] bytes) {
+        return read(ByteBuffer.wrap(bytes));
+    }
+
+    public static ClassFileInfo read(ByteBuffer buffer) {
+        try {
+            return new ClassFileReader(buffer.duplicate()).readClassFile();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated or corrupt class file", e);
+        }
+    }
+
+    private ClassFileInfo readClassFile() {
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a class file");
+        }
+        buffer.getShort(); // minor version
+        buffer.getShort(); // major version
+        constantPool = new ConstantPool(buffer);
+        int accessFlags = readUnsignedShort();
+        String className = constantPool.getClassName(readUnsignedShort());
+        int superClassIndex = readUnsignedShort();
+        String superClassName = superClassIndex == 0 ? null : constantPool.getClassName(superClassIndex);
+        skip(readUnsignedShort() * 2);
+        skipMembers();
+        skipMembers();
+        Set<String> annotations = Collections.emptySet();
+        int attributesCount = readUnsignedShort();
+        for (int i = 0; i < attributesCount; i++) {
+            String attributeName = constantPool.getUtf8(readUnsignedShort());
+            int length = buffer.getInt();
+            if (RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName)) {
+                annotations = readAnnotationTypes();
+            } else {
+                skip(length);
+            }
+        }
+        return new ClassFileInfo(className, superClassName, accessFlags, annotations);
+    }
+
+    private void skipMembers() {
+        int count = readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            skip(6);
+            int attributesCount = readUnsignedShort();
+            for (int j = 0; j < attributesCount; j++) {
+                skip(2);
+                skip(buffer.getInt());
+            }
+        }
+    }
+
+    private Set<String> readAnnotationTypes() {
+        Set<String> annotationTypes = new TreeSet<>();
+        int count = readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            annotationTypes.add(descriptorToClassName(constantPool.getUtf8(readUnsignedShort())));
+            skipElementValuePairs();
+        }
+        return annotationTypes;
+    }
+
+    private void skipElementValuePairs() {
+        int pairs = readUnsignedShort();
+        for (int i = 0; i < pairs; i++) {
+            skip(2);
+            skipElementValue();
+        }
+    }
+
+    private void skipElementValue() {
+        char tag = (char) (buffer.get() & 0xFF);
+        switch (tag) {
+            case 'e':
+                skip(4);
+                break;
+            case '@':
+                skip(2);
+                skipElementValuePairs();
+                break;
+            case '[':
+                int values = readUnsignedShort();
+                for (int i = 0; i < values; i++) {
+                    skipElementValue();
+                }
+                break;
+            default:
+                skip(2);
+        }
+    }
+
+    private static String descriptorToClassName(String descriptor) {
+        if (descriptor.startsWith("L") && descriptor.endsWith(";")) {
+            return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+        }
+        return descriptor;
+    }
+
+    private int readUnsignedShort() {
+        return buffer.getShort() & 0xFFFF;
+    }
+
+    private void skip(int bytes) {
+        buffer.position(buffer.position() + bytes);
+    }
+}
@@ -0,0 +1,178 @@
+package org.lazydoc.scanner;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.util.*;
+
+/**
+ * Persistent index of scanned class files. Every class file is stored with its size, last modification time and
+ * checksum together with the class information read from it, so that later scans only have to read class files
+ * which were changed or added.
+ */
+public class ClassFileScanIndex {
+
+    private static final Logger log = LogManager.getLogger(ClassFileScanIndex.class);
+
+    private static final String HEADER = "# lazydoc class file scan index v1";
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final String NONE = "-";
+
+    private final File file;
+    private final NavigableMap<String, Entry> previousEntries;
+    private final NavigableMap<String, Entry> entries = new TreeMap<>();
+
+    private ClassFileScanIndex(File file, NavigableMap<String, Entry> previousEntries) {
+        this.file = file;
+        this.previousEntries = previousEntries;
+    }
+
+    public static ClassFileScanIndex load(File file) {
+        NavigableMap<String, Entry> entries = new TreeMap<>();
+        if (file.isFile()) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), UTF_8))) {
+                if (HEADER.equals(reader.readLine())) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        Entry entry = Entry.parse(line);
+                        entries.put(entry.getSource(), entry);
+                    }
+                } else {
+                    log.info("Ignoring scan index " + file + " with unknown format");
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("Could not read scan index " + file + ", scanning all class files: " + e.getMessage());
+                entries.clear();
+            }
+        }
+        log.debug("Loaded " + entries.size() + " entries from scan index " + file);
+        return new ClassFileScanIndex(file, entries);
+    }
+
+    public Entry getPreviousEntry(String source) {
+        return previousEntries.get(source);
+    }
+
+    public Collection<Entry> getPreviousEntriesStartingWith(String sourcePrefix) {
+        return previousEntries.subMap(sourcePrefix, true, sourcePrefix + Character.MAX_VALUE, false).values();
+    }
+
+    public void addEntry(Entry entry) {
+        entries.put(entry.getSource(), entry);
+    }
+
+    public void save() throws IOException {
+        if (entries.equals(previousEntries)) {
+            log.debug("Scan index " + file + " is up to date");
+            return;
+        }
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Could not create directory " + parent);
+        }
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), UTF_8))) {
+            writer.write(HEADER);
+            writer.write('\n');
+            for (Entry entry : entries.values()) {
+                writer.write(entry.format());
+                writer.write('\n');
+            }
+        }
+        log.debug("Saved " + entries.size() + " entries to scan index " + file);
+    }
+
+    public static class Entry {
+
+        private final String source;
+        private final long size;
+        private final long lastModified;
+        private final long checksum;
+        private final ClassFileInfo classFileInfo;
+
+        public Entry(String source, long size, long lastModified, long checksum, ClassFileInfo classFileInfo) {
+            this.source = source;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.checksum = checksum;
+            this.classFileInfo = classFileInfo;
+        }
+
+        public String getSource() {
+            return source;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        public long getChecksum() {
+            return checksum;
+        }
+
+        /**
+         * @return The class information or null if the entry does not describe a single class file, e.g. a scanned jar.
+         */
+        public ClassFileInfo getClassFileInfo() {
+            return classFileInfo;
+        }
+
+        public boolean isUnchanged(long size, long lastModified) {
+            return this.size == size && this.lastModified == lastModified;
+        }
+
+        public Entry withLastModified(long lastModified) {
+            return new Entry(source, size, lastModified, checksum, classFileInfo);
+        }
+
+        private String format() {
+            StringBuilder line = new StringBuilder(source).append('\t').append(size).append('\t').append(lastModified)
+                    .append('\t').append(checksum);
+            if (classFileInfo != null) {
+                line.append('\t').append(classFileInfo.getClassName())
+                        .append('\t').append(StringUtils.defaultString(classFileInfo.getSuperClassName(), NONE))
+                        .append('\t').append(classFileInfo.getAccessFlags())
+                        .append('\t').append(classFileInfo.getAnnotations().isEmpty() ? NONE : StringUtils.join(classFileInfo.getAnnotations(), ","));
+            }
+            return line.toString();
+        }
+
+        private static Entry parse(String line) {
+            String[] columns = StringUtils.splitPreserveAllTokens(line, '\t');
+            ClassFileInfo classFileInfo = null;
+            if (columns.length == 8) {
+                String superClassName = NONE.equals(columns[5]) ? null : columns[5];
+                Set<String> annotations = NONE.equals(columns[7])
+                        ? Collections.<String>emptySet() : new TreeSet<>(Arrays.asList(StringUtils.split(columns[7], ',')));
+                classFileInfo = new ClassFileInfo(columns[4], superClassName, Integer.parseInt(columns[6]), annotations);
+            } else if (columns.length != 4) {
+                throw new IllegalArgumentException("Invalid scan index line: " + line);
+            }
+            return new Entry(columns[0], Long.parseLong(columns[1]), Long.parseLong(columns[2]), Long.parseLong(columns[3]), classFileInfo);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry entry = (Entry) o;
+            return size == entry.size && lastModified == entry.lastModified && checksum == entry.checksum
+                    && source.equals(entry.source) && format().equals(entry.format());
+        }
+
+        @Override
+        public int hashCode() {
+            return source.hashCode();
+        }
+    }
+}
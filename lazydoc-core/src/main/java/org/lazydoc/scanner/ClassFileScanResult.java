@@ -0,0 +1,74 @@
+package org.lazydoc.scanner;
+
+import java.util.*;
+
+public class ClassFileScanResult {
+
+    private final Map<String, ClassFileInfo> classes;
+
+    public ClassFileScanResult(Map<String, ClassFileInfo> classes) {
+        this.classes = classes;
+    }
+
+    public Collection<ClassFileInfo> getClasses() {
+        return classes.values();
+    }
+
+    public ClassFileInfo getClass(String className) {
+        return classes.get(className);
+    }
+
+    /**
+     * Returns the names of all scanned classes carrying one of the given annotations, either directly or through an
+     * annotation which is itself annotated with it, together with all scanned subclasses of those classes.
+     */
+    public SortedSet<String> getClassesAnnotatedWith(String... annotationClassNames) {
+        Set<String> annotations = new HashSet<>(Arrays.asList(annotationClassNames));
+        boolean annotationsAdded = true;
+        while (annotationsAdded) {
+            annotationsAdded = false;
+            for (ClassFileInfo classFileInfo : classes.values()) {
+                if (classFileInfo.isAnnotation() && !annotations.contains(classFileInfo.getClassName())
+                        && isAnnotatedWithAny(classFileInfo, annotations)) {
+                    annotations.add(classFileInfo.getClassName());
+                    annotationsAdded = true;
+                }
+            }
+        }
+        SortedSet<String> annotated = new TreeSet<>();
+        for (ClassFileInfo classFileInfo : classes.values()) {
+            if (!classFileInfo.isAnnotation() && isAnnotatedWithAny(classFileInfo, annotations)) {
+                annotated.add(classFileInfo.getClassName());
+            }
+        }
+        SortedSet<String> result = new TreeSet<>(annotated);
+        for (ClassFileInfo classFileInfo : classes.values()) {
+            if (isSubclassOfAny(classFileInfo, annotated)) {
+                result.add(classFileInfo.getClassName());
+            }
+        }
+        return result;
+    }
+
+    private boolean isAnnotatedWithAny(ClassFileInfo classFileInfo, Set<String> annotations) {
+        for (String annotation : classFileInfo.getAnnotations()) {
+            if (annotations.contains(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isSubclassOfAny(ClassFileInfo classFileInfo, Set<String> superClasses) {
+        Set<String> visited = new HashSet<>();
+        String superClassName = classFileInfo.getSuperClassName();
+        while (superClassName != null && visited.add(superClassName)) {
+            if (superClasses.contains(superClassName)) {
+                return true;
+            }
+            ClassFileInfo superClass = classes.get(superClassName);
+            superClassName = superClass != null ? superClass.getSuperClassName() : null;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,277 @@
+package org.lazydoc.scanner;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.zip.CRC32;
+
+/**
+ * Scans the class files of a package in all class path roots (output directories and jars) in parallel.
+ * The class files are only read, no class is loaded. If a scan index is given, only class files which changed since
+ * the last scan are read again.
+ */
+public class ClassFileScanner {
+
+    private static final Logger log = LogManager.getLogger(ClassFileScanner.class);
+
+    private static final int CLASS_FILES_PER_TASK = 256;
+
+    private final ClassLoader classLoader;
+    private final int threads;
+    private final ClassFileScanIndex index;
+
+    public ClassFileScanner(ClassLoader classLoader, int threads) {
+        this(classLoader, threads, null);
+    }
+
+    public ClassFileScanner(ClassLoader classLoader, int threads, ClassFileScanIndex index) {
+        this.classLoader = classLoader;
+        this.threads = threads;
+        this.index = index;
+    }
+
+    public ClassFileScanResult scan(String packageName) throws IOException {
+        return scan(packageName, Collections.<String>emptySet());
+    }
+
+    /**
+     * @param skippedRoots The class path roots which are not scanned, see {@link #getClassPathRoot(URL, String)}.
+     */
+    public ClassFileScanResult scan(String packageName, Set<String> skippedRoots) throws IOException {
+        String packagePath = packageName.replace('.', '/');
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new ScannerThreadFactory());
+        try {
+            List<Future<List<ClassFileScanIndex.Entry>>> results = new ArrayList<>();
+            Enumeration<URL> roots = classLoader.getResources(packagePath);
+            while (roots.hasMoreElements()) {
+                URL root = roots.nextElement();
+                if (skippedRoots.contains(getClassPathRoot(root, packagePath))) {
+                    log.debug("Skipping class files in " + root);
+                    continue;
+                }
+                log.debug("Scanning class files in " + root);
+                if ("file".equals(root.getProtocol())) {
+                    for (List<ClassFileSource> classFiles : partition(listClassFiles(toFile(root).toPath()))) {
+                        results.add(executor.submit(new DirectoryScanTask(classFiles)));
+                    }
+                } else if ("jar".equals(root.getProtocol())) {
+                    File jarFile = toFile(((JarURLConnection) root.openConnection()).getJarFileURL());
+                    results.add(executor.submit(new JarScanTask(jarFile, packagePath + "/")));
+                } else {
+                    log.warn("Unsupported class path root " + root + " is not scanned");
+                }
+            }
+            Map<String, ClassFileInfo> classes = new LinkedHashMap<>();
+            for (Future<List<ClassFileScanIndex.Entry>> result : results) {
+                for (ClassFileScanIndex.Entry entry : getResult(result)) {
+                    if (index != null) {
+                        index.addEntry(entry);
+                    }
+                    ClassFileInfo classFileInfo = entry.getClassFileInfo();
+                    if (classFileInfo != null && !classes.containsKey(classFileInfo.getClassName())) {
+                        classes.put(classFileInfo.getClassName(), classFileInfo);
+                    }
+                }
+            }
+            log.debug("Scanned " + classes.size() + " class files in package " + packageName);
+            return new ClassFileScanResult(classes);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return The URL of the output directory or jar which contains the resource, the same for all of its resources.
+     */
+    public static String getClassPathRoot(URL resource, String resourceName) {
+        String url = StringUtils.removeEnd(resource.toString(), "/");
+        return StringUtils.removeEnd(url, StringUtils.removeEnd(resourceName, "/"));
+    }
+
+    private List<ClassFileScanIndex.Entry> getResult(Future<List<ClassFileScanIndex.Entry>> result) throws IOException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while scanning class files", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new RuntimeException("Error scanning class files", e.getCause());
+        }
+    }
+
+    private List<ClassFileSource> listClassFiles(Path directory) throws IOException {
+        final List<ClassFileSource> classFiles = new ArrayList<>();
+        Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                if (isClassFile(file.getFileName().toString())) {
+                    classFiles.add(new ClassFileSource(file, attributes.size(), attributes.lastModifiedTime().toMillis()));
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return classFiles;
+    }
+
+    private List<List<ClassFileSource>> partition(List<ClassFileSource> classFiles) {
+        List<List<ClassFileSource>> partitions = new ArrayList<>();
+        for (int i = 0; i < classFiles.size(); i += CLASS_FILES_PER_TASK) {
+            partitions.add(classFiles.subList(i, Math.min(i + CLASS_FILES_PER_TASK, classFiles.size())));
+        }
+        return partitions;
+    }
+
+    private static boolean isClassFile(String name) {
+        return name.endsWith(".class") && !name.endsWith("package-info.class") && !name.endsWith("module-info.class");
+    }
+
+    private static File toFile(URL url) throws IOException {
+        try {
+            return new File(url.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            throw new IOException("Could not convert " + url + " to a file", e);
+        }
+    }
+
+    private static ClassFileInfo readClassFile(String source, byte[] bytes) {
+        try {
+            return ClassFileReader.read(bytes);
+        } catch (IllegalArgumentException e) {
+            log.warn("Could not read class file " + source + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static long checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
+    private static class ClassFileSource {
+
+        private final Path path;
+        private final long size;
+        private final long lastModified;
+
+        ClassFileSource(Path path, long size, long lastModified) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+    }
+
+    private class DirectoryScanTask implements Callable<List<ClassFileScanIndex.Entry>> {
+
+        private final List<ClassFileSource> classFiles;
+
+        DirectoryScanTask(List<ClassFileSource> classFiles) {
+            this.classFiles = classFiles;
+        }
+
+        @Override
+        public List<ClassFileScanIndex.Entry> call() throws IOException {
+            List<ClassFileScanIndex.Entry> result = new ArrayList<>(classFiles.size());
+            for (ClassFileSource classFile : classFiles) {
+                String source = classFile.path.toString();
+                ClassFileScanIndex.Entry previousEntry = index != null ? index.getPreviousEntry(source) : null;
+                if (previousEntry != null && previousEntry.isUnchanged(classFile.size, classFile.lastModified)) {
+                    result.add(previousEntry);
+                    continue;
+                }
+                byte[] bytes = Files.readAllBytes(classFile.path);
+                long checksum = checksum(bytes);
+                if (previousEntry != null && previousEntry.getSize() == bytes.length && previousEntry.getChecksum() == checksum) {
+                    result.add(previousEntry.withLastModified(classFile.lastModified));
+                    continue;
+                }
+                ClassFileInfo classFileInfo = readClassFile(source, bytes);
+                if (classFileInfo != null) {
+                    result.add(new ClassFileScanIndex.Entry(source, bytes.length, classFile.lastModified, checksum, classFileInfo));
+                }
+            }
+            return result;
+        }
+    }
+
+    private class JarScanTask implements Callable<List<ClassFileScanIndex.Entry>> {
+
+        private final File jar;
+        private final String packagePrefix;
+
+        JarScanTask(File jar, String packagePrefix) {
+            this.jar = jar;
+            this.packagePrefix = packagePrefix;
+        }
+
+        @Override
+        public List<ClassFileScanIndex.Entry> call() throws IOException {
+            String sourcePrefix = jar + "!/" + packagePrefix;
+            ClassFileScanIndex.Entry jarEntry = new ClassFileScanIndex.Entry(sourcePrefix, jar.length(), jar.lastModified(), 0, null);
+            List<ClassFileScanIndex.Entry> result = new ArrayList<>();
+            result.add(jarEntry);
+            ClassFileScanIndex.Entry previousJarEntry = index != null ? index.getPreviousEntry(sourcePrefix) : null;
+            if (previousJarEntry != null && previousJarEntry.isUnchanged(jarEntry.getSize(), jarEntry.getLastModified())) {
+                for (ClassFileScanIndex.Entry previousEntry : index.getPreviousEntriesStartingWith(sourcePrefix)) {
+                    if (previousEntry.getClassFileInfo() != null) {
+                        result.add(previousEntry);
+                    }
+                }
+                return result;
+            }
+            try (JarFile jarFile = new JarFile(jar)) {
+                Enumeration<JarEntry> entries = jarFile.entries();
+                while (entries.hasMoreElements()) {
+                    JarEntry entry = entries.nextElement();
+                    if (entry.getName().startsWith(packagePrefix) && isClassFile(entry.getName())) {
+                        String source = jar + "!/" + entry.getName();
+                        ClassFileScanIndex.Entry previousEntry = index != null ? index.getPreviousEntry(source) : null;
+                        if (previousEntry != null && entry.getCrc() != -1 && previousEntry.getSize() == entry.getSize()
+                                && previousEntry.getChecksum() == entry.getCrc()) {
+                            result.add(previousEntry);
+                            continue;
+                        }
+                        byte[] bytes;
+                        try (InputStream in = jarFile.getInputStream(entry)) {
+                            bytes = IOUtils.toByteArray(in);
+                        }
+                        ClassFileInfo classFileInfo = readClassFile(source, bytes);
+                        if (classFileInfo != null) {
+                            result.add(new ClassFileScanIndex.Entry(source, bytes.length, entry.getTime(), checksum(bytes), classFileInfo));
+                        }
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    private static class ScannerThreadFactory implements ThreadFactory {
+
+        private int count = 0;
+
+        @Override
+        public synchronized Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "lazydoc-scanner-" + (++count));
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package org.lazydoc.scanner;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The constant pool of a class file. Only the offsets of the entries are read up front, the entries are decoded
+ * when they are requested.
+ */
+class ConstantPool {
+
+    static final int CONSTANT_UTF8 = 1;
+    static final int CONSTANT_INTEGER = 3;
+    static final int CONSTANT_FLOAT = 4;
+    static final int CONSTANT_LONG = 5;
+    static final int CONSTANT_DOUBLE = 6;
+    static final int CONSTANT_CLASS = 7;
+    static final int CONSTANT_STRING = 8;
+    static final int CONSTANT_FIELDREF = 9;
+    static final int CONSTANT_METHODREF = 10;
+    static final int CONSTANT_INTERFACE_METHODREF = 11;
+    static final int CONSTANT_NAME_AND_TYPE = 12;
+    static final int CONSTANT_METHOD_HANDLE = 15;
+    static final int CONSTANT_METHOD_TYPE = 16;
+    static final int CONSTANT_DYNAMIC = 17;
+    static final int CONSTANT_INVOKE_DYNAMIC = 18;
+    static final int CONSTANT_MODULE = 19;
+    static final int CONSTANT_PACKAGE = 20;
+
+    private final ByteBuffer buffer;
+    private final int[] offsets;
+    private final int[] tags;
+    private final String[] utf8Cache;
+
+    /**
+     * Reads the constant pool starting at the current position of the buffer and leaves the buffer positioned
+     * behind it.
+     */
+    ConstantPool(ByteBuffer buffer) {
+        this.buffer = buffer;
+        int count = buffer.getShort() & 0xFFFF;
+        offsets = new int[count];
+        tags = new int[count];
+        utf8Cache = new String[count];
+        for (int i = 1; i < count; i++) {
+            int tag = buffer.get() & 0xFF;
+            tags[i] = tag;
+            offsets[i] = buffer.position();
+            switch (tag) {
+                case CONSTANT_UTF8:
+                    skip(buffer.getShort() & 0xFFFF);
+                    break;
+                case CONSTANT_CLASS:
+                case CONSTANT_STRING:
+                case CONSTANT_METHOD_TYPE:
+                case CONSTANT_MODULE:
+                case CONSTANT_PACKAGE:
+                    skip(2);
+                    break;
+                case CONSTANT_METHOD_HANDLE:
+                    skip(3);
+                    break;
+                case CONSTANT_INTEGER:
+                case CONSTANT_FLOAT:
+                case CONSTANT_FIELDREF:
+                case CONSTANT_METHODREF:
+                case CONSTANT_INTERFACE_METHODREF:
+                case CONSTANT_NAME_AND_TYPE:
+                case CONSTANT_DYNAMIC:
+                case CONSTANT_INVOKE_DYNAMIC:
+                    skip(4);
+                    break;
+                case CONSTANT_LONG:
+                case CONSTANT_DOUBLE:
+                    skip(8);
+                    i++;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown constant pool tag " + tag);
+            }
+        }
+    }
+
+    int getTag(int index) {
+        return tags[index];
+    }
+
+    String getUtf8(int index) {
+        String value = utf8Cache[index];
+        if (value == null) {
+            value = decodeUtf8(offsets[index]);
+            utf8Cache[index] = value;
+        }
+        return value;
+    }
+
+    /**
+     * @return The class name with dots of a class entry.
+     */
+    String getClassName(int classIndex) {
+        return getUtf8(getReference(classIndex, 0)).replace('/', '.');
+    }
+
+    /**
+     * @return The value of a string entry.
+     */
+    String getString(int stringIndex) {
+        return getUtf8(getReference(stringIndex, 0));
+    }
+
+    /**
+     * @return The class name of a field or method reference.
+     */
+    String getMemberOwner(int memberIndex) {
+        return getClassName(getReference(memberIndex, 0));
+    }
+
+    /**
+     * @return The name of a field, method or invoke dynamic reference.
+     */
+    String getMemberName(int memberIndex) {
+        return getUtf8(getReference(getReference(memberIndex, 2), 0));
+    }
+
+    /**
+     * @return The descriptor of a field, method or invoke dynamic reference.
+     */
+    String getMemberDescriptor(int memberIndex) {
+        return getUtf8(getReference(getReference(memberIndex, 2), 2));
+    }
+
+    private int getReference(int index, int offset) {
+        return buffer.getShort(offsets[index] + offset) & 0xFFFF;
+    }
+
+    private String decodeUtf8(int offset) {
+        int length = buffer.getShort(offset) & 0xFFFF;
+        int position = offset + 2;
+        int end = position + length;
+        char[] chars = new char[length];
+        int count = 0;
+        while (position < end) {
+            int c = buffer.get(position++) & 0xFF;
+            if (c < 0x80) {
+                chars[count++] = (char) c;
+            } else if ((c & 0xE0) == 0xC0) {
+                chars[count++] = (char) (((c & 0x1F) << 6) | (buffer.get(position++) & 0x3F));
+            } else {
+                int c2 = buffer.get(position++) & 0x3F;
+                int c3 = buffer.get(position++) & 0x3F;
+                chars[count++] = (char) (((c & 0x0F) << 12) | (c2 << 6) | c3);
+            }
+        }
+        return new String(chars, 0, count);
+    }
+
+    private void skip(int bytes) {
+        buffer.position(buffer.position() + bytes);
+    }
+}
@@ -0,0 +1,54 @@
+package org.lazydoc.scanner;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.lazydoc.annotation.processor.ControllerIndexProcessor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Reads the controller indexes written by the {@link ControllerIndexProcessor} at compile time. An index only lists
+ * the controllers of the class path root it was written to, the roots without an index have to be scanned.
+ */
+public class ControllerIndexReader {
+
+    private static final Logger log = LogManager.getLogger(ControllerIndexReader.class);
+
+    private final ClassLoader classLoader;
+
+    public ControllerIndexReader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * @return The names of the indexed controllers in the package and its subpackages by the class path root of the
+     * index, see {@link ClassFileScanner#getClassPathRoot(URL, String)}. Roots without an index are not contained.
+     */
+    public Map<String, SortedSet<String>> getControllers(String packageName) throws IOException {
+        Map<String, SortedSet<String>> controllersByRoot = new LinkedHashMap<>();
+        Enumeration<URL> indexes = classLoader.getResources(ControllerIndexProcessor.CONTROLLER_INDEX);
+        while (indexes.hasMoreElements()) {
+            URL index = indexes.nextElement();
+            log.debug("Reading controller index " + index);
+            SortedSet<String> controllers = new TreeSet<>();
+            try (InputStream in = index.openStream()) {
+                for (String line : IOUtils.readLines(in, "UTF-8")) {
+                    String controller = line.trim();
+                    if (controller.startsWith(packageName + ".")) {
+                        controllers.add(controller);
+                    }
+                }
+            }
+            controllersByRoot.put(ClassFileScanner.getClassPathRoot(index, ControllerIndexProcessor.CONTROLLER_INDEX), controllers);
+        }
+        return controllersByRoot;
+    }
+}
@@ -0,0 +1,364 @@
+package org.lazydoc.scanner;
+
+import java.lang.reflect.Method;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.*;
+
+/**
+ * Reads the constants a method returns straight from the bytecode of its class without running it. The code of the
+ * method is interpreted on a symbolic operand stack: string literals and static constants like enum values are
+ * followed into the constructors, factory methods and arrays they are passed to, so the constants of the returned
+ * object are known when the method returns. Only straight line code is interpreted, a method with branches, loops
+ * or throws is not readable.
+ */
+public class ReturnedConstantsReader {
+
+    private static final String CODE = "Code";
+
+    private final ByteBuffer buffer;
+    private final Set<String> ignoredConstantOwners;
+    private ConstantPool constantPool;
+
+    private ReturnedConstantsReader(ByteBuffer buffer, Set<String> ignoredConstantOwners) {
+        this.buffer = buffer;
+        this.ignoredConstantOwners = ignoredConstantOwners;
+    }
+
+    /**
+     * @param signatures            The signatures of the methods to read, see {@link #getSignature(Method)}.
+     * @param ignoredConstantOwners The classes whose static constants are not taken, e.g. the HTTP status.
+     * @return The returned constants by signature of the methods, in the order they are passed to the returned
+     * object. Methods which are not readable are missing.
+     */
+    public static Map<String, List<String>> read(byte[] classFile, Collection<String> signatures, Set<String> ignoredConstantOwners) {
+        try {
+            return new ReturnedConstantsReader(ByteBuffer.wrap(classFile), ignoredConstantOwners).readMethods(new HashSet<>(signatures));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated or corrupt class file", e);
+        }
+    }
+
+    /**
+     * @return The name and descriptor of the method as it appears in the class file.
+     */
+    public static String getSignature(Method method) {
+        StringBuilder signature = new StringBuilder(method.getName()).append('(');
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            appendDescriptor(signature, parameterType);
+        }
+        signature.append(')');
+        appendDescriptor(signature, method.getReturnType());
+        return signature.toString();
+    }
+
+    private static void appendDescriptor(StringBuilder descriptor, Class<?> type) {
+        while (type.isArray()) {
+            descriptor.append('[');
+            type = type.getComponentType();
+        }
+        if (!type.isPrimitive()) {
+            descriptor.append('L').append(type.getName().replace('.', '/')).append(';');
+        } else if (type == void.class) {
+            descriptor.append('V');
+        } else if (type == boolean.class) {
+            descriptor.append('Z');
+        } else if (type == long.class) {
+            descriptor.append('J');
+        } else {
+            descriptor.append(Character.toUpperCase(type.getName().charAt(0)));
+        }
+    }
+
+    private Map<String, List<String>> readMethods(Set<String> signatures) {
+        if (buffer.getInt() != 0xCAFEBABE) {
+            throw new IllegalArgumentException("Not a class file");
+        }
+        buffer.getShort(); // minor version
+        buffer.getShort(); // major version
+        constantPool = new ConstantPool(buffer);
+        skip(6); // access flags, this class, super class
+        skip(readUnsignedShort() * 2);
+        skipFields();
+        Map<String, List<String>> returnedConstants = new HashMap<>();
+        int methodsCount = readUnsignedShort();
+        for (int i = 0; i < methodsCount; i++) {
+            skip(2); // access flags
+            String name = constantPool.getUtf8(readUnsignedShort());
+            String descriptor = constantPool.getUtf8(readUnsignedShort());
+            String signature = name + descriptor;
+            int attributesCount = readUnsignedShort();
+            for (int j = 0; j < attributesCount; j++) {
+                String attributeName = constantPool.getUtf8(readUnsignedShort());
+                int length = buffer.getInt();
+                int end = buffer.position() + length;
+                if (CODE.equals(attributeName) && signatures.contains(signature)) {
+                    skip(4); // max stack, max locals
+                    int codeLength = buffer.getInt();
+                    List<String> constants = interpret(buffer.position(), codeLength);
+                    if (constants != null) {
+                        returnedConstants.put(signature, constants);
+                    }
+                }
+                buffer.position(end);
+            }
+        }
+        return returnedConstants;
+    }
+
+    private void skipFields() {
+        int count = readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            skip(6);
+            int attributesCount = readUnsignedShort();
+            for (int j = 0; j < attributesCount; j++) {
+                skip(2);
+                skip(buffer.getInt());
+            }
+        }
+    }
+
+    /**
+     * @return The constants of the returned value or null if the code is not straight line code.
+     */
+    private List<String> interpret(int start, int length) {
+        Deque<Value> stack = new ArrayDeque<>();
+        Map<Integer, Value> locals = new HashMap<>();
+        int end = start + length;
+        int pc = start;
+        try {
+            while (pc < end) {
+                int opcode = buffer.get(pc) & 0xFF;
+                switch (opcode) {
+                    case 0x00: // nop
+                        pc += 1;
+                        break;
+                    case 0x01: // aconst_null
+                    case 0x02: case 0x03: case 0x04: case 0x05: case 0x06: case 0x07: case 0x08: // iconst
+                    case 0x09: case 0x0a: case 0x0b: case 0x0c: case 0x0d: case 0x0e: case 0x0f: // lconst, fconst, dconst
+                        stack.push(new Value());
+                        pc += 1;
+                        break;
+                    case 0x10: // bipush
+                        stack.push(new Value());
+                        pc += 2;
+                        break;
+                    case 0x11: // sipush
+                        stack.push(new Value());
+                        pc += 3;
+                        break;
+                    case 0x12: // ldc
+                        stack.push(getConstant(buffer.get(pc + 1) & 0xFF));
+                        pc += 2;
+                        break;
+                    case 0x13: // ldc_w
+                    case 0x14: // ldc2_w
+                        stack.push(getConstant(readUnsignedShort(pc + 1)));
+                        pc += 3;
+                        break;
+                    case 0x15: case 0x16: case 0x17: case 0x18: // iload, lload, fload, dload
+                        stack.push(new Value());
+                        pc += 2;
+                        break;
+                    case 0x19: // aload
+                        stack.push(load(locals, buffer.get(pc + 1) & 0xFF));
+                        pc += 2;
+                        break;
+                    case 0x1a: case 0x1b: case 0x1c: case 0x1d: // iload_n
+                    case 0x1e: case 0x1f: case 0x20: case 0x21: // lload_n
+                    case 0x22: case 0x23: case 0x24: case 0x25: // fload_n
+                    case 0x26: case 0x27: case 0x28: case 0x29: // dload_n
+                        stack.push(new Value());
+                        pc += 1;
+                        break;
+                    case 0x2a: case 0x2b: case 0x2c: case 0x2d: // aload_n
+                        stack.push(load(locals, opcode - 0x2a));
+                        pc += 1;
+                        break;
+                    case 0x36: case 0x37: case 0x38: case 0x39: // istore, lstore, fstore, dstore
+                        stack.pop();
+                        pc += 2;
+                        break;
+                    case 0x3a: // astore
+                        locals.put(buffer.get(pc + 1) & 0xFF, stack.pop());
+                        pc += 2;
+                        break;
+                    case 0x3b: case 0x3c: case 0x3d: case 0x3e: // istore_n
+                    case 0x3f: case 0x40: case 0x41: case 0x42: // lstore_n
+                    case 0x43: case 0x44: case 0x45: case 0x46: // fstore_n
+                    case 0x47: case 0x48: case 0x49: case 0x4a: // dstore_n
+                        stack.pop();
+                        pc += 1;
+                        break;
+                    case 0x4b: case 0x4c: case 0x4d: case 0x4e: // astore_n
+                        locals.put(opcode - 0x4b, stack.pop());
+                        pc += 1;
+                        break;
+                    case 0x53: // aastore
+                        Value element = stack.pop();
+                        stack.pop();
+                        stack.pop().constants.addAll(element.constants);
+                        pc += 1;
+                        break;
+                    case 0x57: // pop
+                        stack.pop();
+                        pc += 1;
+                        break;
+                    case 0x59: // dup
+                        stack.push(stack.peek());
+                        pc += 1;
+                        break;
+                    case 0x5f: // swap
+                        Value first = stack.pop();
+                        Value second = stack.pop();
+                        stack.push(first);
+                        stack.push(second);
+                        pc += 1;
+                        break;
+                    case 0xac: case 0xad: case 0xae: case 0xaf: // ireturn, lreturn, freturn, dreturn
+                    case 0xb1: // return
+                        return new ArrayList<>();
+                    case 0xb0: // areturn
+                        return stack.pop().constants;
+                    case 0xb2: // getstatic
+                        stack.push(getStaticConstant(readUnsignedShort(pc + 1)));
+                        pc += 3;
+                        break;
+                    case 0xb4: // getfield
+                        stack.pop();
+                        stack.push(new Value());
+                        pc += 3;
+                        break;
+                    case 0xb6: // invokevirtual
+                    case 0xb7: // invokespecial
+                    case 0xb8: // invokestatic
+                        invoke(stack, readUnsignedShort(pc + 1), opcode == 0xb8);
+                        pc += 3;
+                        break;
+                    case 0xb9: // invokeinterface
+                        invoke(stack, readUnsignedShort(pc + 1), false);
+                        pc += 5;
+                        break;
+                    case 0xba: // invokedynamic
+                        invoke(stack, readUnsignedShort(pc + 1), true);
+                        pc += 5;
+                        break;
+                    case 0xbb: // new
+                        stack.push(new Value());
+                        pc += 3;
+                        break;
+                    case 0xbc: // newarray
+                        stack.pop();
+                        stack.push(new Value());
+                        pc += 2;
+                        break;
+                    case 0xbd: // anewarray
+                        stack.pop();
+                        stack.push(new Value());
+                        pc += 3;
+                        break;
+                    case 0xc0: // checkcast
+                        pc += 3;
+                        break;
+                    default:
+                        return null;
+                }
+            }
+        } catch (NoSuchElementException e) {
+            return null;
+        }
+        return null;
+    }
+
+    private Value load(Map<Integer, Value> locals, int index) {
+        Value value = locals.get(index);
+        return value != null ? value : new Value();
+    }
+
+    private Value getConstant(int index) {
+        if (constantPool.getTag(index) == ConstantPool.CONSTANT_STRING) {
+            return new Value(constantPool.getString(index));
+        }
+        return new Value();
+    }
+
+    private Value getStaticConstant(int fieldIndex) {
+        String descriptor = constantPool.getMemberDescriptor(fieldIndex);
+        boolean isObject = descriptor.startsWith("L") || descriptor.startsWith("[");
+        if (!isObject || ignoredConstantOwners.contains(constantPool.getMemberOwner(fieldIndex))) {
+            return new Value();
+        }
+        return new Value(constantPool.getMemberName(fieldIndex));
+    }
+
+    /**
+     * The constants of the arguments are passed on to the constructed object or the result of the invocation.
+     */
+    private void invoke(Deque<Value> stack, int methodIndex, boolean isStatic) {
+        String descriptor = constantPool.getMemberDescriptor(methodIndex);
+        List<String> constants = new ArrayList<>();
+        int argumentCount = getArgumentCount(descriptor);
+        for (int i = 0; i < argumentCount; i++) {
+            constants.addAll(0, stack.pop().constants);
+        }
+        if (!isStatic) {
+            Value receiver = stack.pop();
+            if ("<init>".equals(constantPool.getMemberName(methodIndex))) {
+                receiver.constants.addAll(constants);
+                return;
+            }
+            constants.addAll(0, receiver.constants);
+        }
+        if (!descriptor.endsWith(")V")) {
+            Value result = new Value();
+            result.constants.addAll(constants);
+            stack.push(result);
+        }
+    }
+
+    private static int getArgumentCount(String descriptor) {
+        int count = 0;
+        int i = 1;
+        while (descriptor.charAt(i) != ')') {
+            char c = descriptor.charAt(i);
+            if (c == '[') {
+                i++;
+                continue;
+            }
+            if (c == 'L') {
+                i = descriptor.indexOf(';', i);
+            }
+            count++;
+            i++;
+        }
+        return count;
+    }
+
+    private int readUnsignedShort() {
+        return buffer.getShort() & 0xFFFF;
+    }
+
+    private int readUnsignedShort(int position) {
+        return buffer.getShort(position) & 0xFFFF;
+    }
+
+    private void skip(int bytes) {
+        buffer.position(buffer.position() + bytes);
+    }
+
+    /**
+     * A value on the operand stack or in a local variable with the constants it was built from. Values are shared
+     * like references, so a constructor called on a duplicated new object fills the object on the stack.
+     */
+    private static class Value {
+
+        private final List<String> constants = new ArrayList<>();
+
+        Value() {
+        }
+
+        Value(String constant) {
+            constants.add(constant);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.lazydoc.util;
+
+import java.lang.reflect.Method;
+
+/**
+ * A property of a bean made of its getter and setter, see {@link PropertyScanner}.
+ */
+public class BeanProperty {
+
+    private final String name;
+    private final Class<?> type;
+    private final Method readMethod;
+    private final Method writeMethod;
+
+    BeanProperty(String name, Class<?> type, Method readMethod, Method writeMethod) {
+        this.name = name;
+        this.type = type;
+        this.readMethod = readMethod;
+        this.writeMethod = writeMethod;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return The getter or null if the property is write only.
+     */
+    public Method getReadMethod() {
+        return readMethod;
+    }
+
+    /**
+     * @return The setter or null if the property is read only.
+     */
+    public Method getWriteMethod() {
+        return writeMethod;
+    }
+
+    @Override
+    public String toString() {
+        return "BeanProperty{" +
+                "name='" + name + '\'' +
+                ", type=" + type +
+                ", readMethod=" + readMethod +
+                ", writeMethod=" + writeMethod +
+                '}';
+    }
+}
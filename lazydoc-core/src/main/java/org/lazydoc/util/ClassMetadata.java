@@ -0,0 +1,114 @@
+package org.lazydoc.util;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Reflection metadata of a class which is read once and shared by all parsers: the declared fields by name, the
+ * declared methods and the annotations of the class and its members.
+ */
+public class ClassMetadata {
+
+    private static final ClassValue<ClassMetadata> METADATA = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    private final Map<String, Field> declaredFieldsByName = new HashMap<>();
+    private final List<Method> declaredMethods;
+    private final Map<String, Method> declaredMethodsBySignature = new HashMap<>();
+    private final Map<Class<? extends Annotation>, Annotation> annotations;
+    private final ConcurrentMap<AnnotatedElement, Map<Class<? extends Annotation>, Annotation>> memberAnnotations = new ConcurrentHashMap<>();
+
+    private ClassMetadata(Class<?> type) {
+        for (Field field : type.getDeclaredFields()) {
+            declaredFieldsByName.put(field.getName(), field);
+        }
+        Method[] methods = type.getDeclaredMethods();
+        for (Method method : methods) {
+            String signature = getSignature(method.getName(), method.getParameterTypes());
+            Method previous = declaredMethodsBySignature.get(signature);
+            if (previous == null || (previous.isBridge() && !method.isBridge())) {
+                declaredMethodsBySignature.put(signature, method);
+            }
+        }
+        this.declaredMethods = Collections.unmodifiableList(Arrays.asList(methods));
+        this.annotations = readAnnotations(type);
+    }
+
+    public static ClassMetadata of(Class<?> type) {
+        return METADATA.get(type);
+    }
+
+    /**
+     * @return The field declared in the class with the given name or null if there is no such field.
+     */
+    public Field getDeclaredField(String name) {
+        return declaredFieldsByName.get(name);
+    }
+
+    public List<Method> getDeclaredMethods() {
+        return declaredMethods;
+    }
+
+    /**
+     * @return The method declared in the class with the given name and parameter types or null if there is no
+     * such method.
+     */
+    public Method getDeclaredMethod(String name, Class<?>... parameterTypes) {
+        return declaredMethodsBySignature.get(getSignature(name, parameterTypes));
+    }
+
+    public static boolean isAnnotationPresent(AnnotatedElement element, Class<? extends Annotation> annotationType) {
+        return getAnnotation(element, annotationType) != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A extends Annotation> A getAnnotation(AnnotatedElement element, Class<A> annotationType) {
+        return (A) getAnnotations(element).get(annotationType);
+    }
+
+    private static Map<Class<? extends Annotation>, Annotation> getAnnotations(AnnotatedElement element) {
+        if (element instanceof Class) {
+            return of((Class<?>) element).annotations;
+        }
+        if (element instanceof Member) {
+            ClassMetadata metadata = of(((Member) element).getDeclaringClass());
+            Map<Class<? extends Annotation>, Annotation> annotations = metadata.memberAnnotations.get(element);
+            if (annotations == null) {
+                annotations = readAnnotations(element);
+                metadata.memberAnnotations.putIfAbsent(element, annotations);
+            }
+            return annotations;
+        }
+        return readAnnotations(element);
+    }
+
+    private static Map<Class<? extends Annotation>, Annotation> readAnnotations(AnnotatedElement element) {
+        Annotation[] elementAnnotations = element.getAnnotations();
+        if (elementAnnotations.length == 0) {
+            return Collections.emptyMap();
+        }
+        Map<Class<? extends Annotation>, Annotation> annotations = new HashMap<>();
+        for (Annotation annotation : elementAnnotations) {
+            annotations.put(annotation.annotationType(), annotation);
+        }
+        return annotations;
+    }
+
+    private static String getSignature(String name, Class<?>[] parameterTypes) {
+        StringBuilder signature = new StringBuilder(name).append('(');
+        for (Class<?> parameterType : parameterTypes) {
+            signature.append(parameterType.getName()).append(',');
+        }
+        return signature.append(')').toString();
+    }
+}
@@ -1,6 +1,5 @@
 package org.lazydoc.util;
 
-import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Map;
@@ -9,15 +8,19 @@ import java.util.Set;
 public class Inspector {
 	
 	public static Class<?> getGenericClassOfList(Class<?> type, Type listGenericClass) {
+		return getGenericClassOfList(type, listGenericClass, null);
+	}
+
+    /**
+     * @param context The class binding the type variables the generic type may use, see {@link TypeResolver}.
+     * @return The element class of the array or collection or null if the type is neither.
+     */
+	public static Class<?> getGenericClassOfList(Class<?> type, Type listGenericClass, Class<?> context) {
         if(type.isArray()) {
             return type.getComponentType();
         }
-		if (listGenericClass instanceof ParameterizedType) {
-			for (Type typeArgument : ((ParameterizedType) listGenericClass).getActualTypeArguments()) {
-				return (Class<?>) typeArgument;
-			}
-		}
-		return null;
+		ResolvedType elementType = TypeResolver.resolve(listGenericClass, context).getElementType();
+		return elementType != null ? elementType.getRawClass() : null;
 	}
 
     public static boolean isListSetOrArray(Class<?> propertyType) {
@@ -27,4 +30,17 @@ public class Inspector {
 	public static boolean isMap(Class<?> propertyType) {
 		return Map.class.isAssignableFrom(propertyType);
 	}
+
+    /**
+     * Loads the class without initializing it, so no static initializer of the documented application is run
+     * just to read its annotations.
+     */
+    public static Class<?> loadClass(String className) throws ClassNotFoundException {
+        return Class.forName(className, false, getClassLoader());
+    }
+
+    public static ClassLoader getClassLoader() {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        return contextClassLoader != null ? contextClassLoader : Inspector.class.getClassLoader();
+    }
 }
@@ -1,5 +1,9 @@
 package org.lazydoc.util;
 
+import org.springframework.objenesis.Objenesis;
+import org.springframework.objenesis.ObjenesisException;
+import org.springframework.objenesis.ObjenesisStd;
+
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.math.BigDecimal;
@@ -8,14 +12,11 @@ import java.util.*;
 
 public class InstanceCreator {
 
+    private static final Objenesis objenesis = new ObjenesisStd(true);
+
     private static Map<Object, Object> argumentTypes = new HashMap<>();
 
     static {
-        argumentTypes.put(List.class, new ArrayList<>());
-        argumentTypes.put(Set.class, new HashSet<>());
-        argumentTypes.put(SortedSet.class, new TreeSet<>());
-        argumentTypes.put(Map.class, new HashMap<>());
-        argumentTypes.put(SortedMap.class, new TreeMap<>());
         argumentTypes.put(Boolean.class, true);
         argumentTypes.put(Boolean.TYPE, true);
         argumentTypes.put(Character.class, 'Z');
@@ -32,12 +33,21 @@ public class InstanceCreator {
         argumentTypes.put(Float.TYPE, 3.14159F);
         argumentTypes.put(Double.class, 3.14159);
         argumentTypes.put(Double.TYPE, 3.14159);
-        argumentTypes.put(Calendar.class, Calendar.getInstance());
         argumentTypes.put(BigDecimal.class, new BigDecimal("3.14159"));
         argumentTypes.put(BigInteger.class, BigInteger.ZERO);
         argumentTypes.put(String.class, "DEFAULT");
-        argumentTypes.put(Throwable.class, new Exception());
-        argumentTypes.put(String[].class, new String[] { "DEFAULT" });
+    }
+
+    /**
+     * Allocates an instance of the class without running any of its constructors, so its fields keep their
+     * default values. Falls back to {@link #createInstanceOf(Class)} if the class cannot be allocated.
+     */
+    public static Object allocateInstanceOf(Class<?> clazz) {
+        try {
+            return objenesis.newInstance(clazz);
+        } catch (ObjenesisException | LinkageError e) {
+            return createInstanceOf(clazz);
+        }
     }
 
     public static Object createInstanceOf(Class<?> clazz) {
@@ -61,6 +71,9 @@ public class InstanceCreator {
         List<Object> parameterList = new ArrayList<Object>();
         for (Class<?> parameterType : parameterTypes) {
             Object parameter = argumentTypes.get(parameterType);
+            if (parameter == null) {
+                parameter = createMutableParameter(parameterType);
+            }
             if (parameter == null) {
                 if (parameterType.isEnum()) {
                     parameter = getEnumParameter(parameterType);
@@ -74,6 +87,37 @@ public class InstanceCreator {
         return parameters;
     }
 
+    /**
+     * Mutable parameters are created for every constructor call, so no two instances share them.
+     */
+    private static Object createMutableParameter(Class<?> parameterType) {
+        if (parameterType == List.class) {
+            return new ArrayList<>();
+        }
+        if (parameterType == Set.class) {
+            return new HashSet<>();
+        }
+        if (parameterType == SortedSet.class) {
+            return new TreeSet<>();
+        }
+        if (parameterType == Map.class) {
+            return new HashMap<>();
+        }
+        if (parameterType == SortedMap.class) {
+            return new TreeMap<>();
+        }
+        if (parameterType == Calendar.class) {
+            return Calendar.getInstance();
+        }
+        if (parameterType == Throwable.class) {
+            return new Exception();
+        }
+        if (parameterType == String[].class) {
+            return new String[] { "DEFAULT" };
+        }
+        return null;
+    }
+
     @SuppressWarnings({ "unchecked", "rawtypes" })
     private static Object getEnumParameter(Class parameterType) {
         for (Field field : parameterType.getDeclaredFields()) {
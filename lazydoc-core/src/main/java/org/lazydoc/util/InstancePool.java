@@ -0,0 +1,50 @@
+package org.lazydoc.util;
+
+import java.util.concurrent.*;
+
+/**
+ * Holds one instance per class for a documentation run. An instance is created once by the first caller, all
+ * further callers, also on other threads, get the same instance.
+ */
+public class InstancePool {
+
+    private final boolean runConstructors;
+    private final ConcurrentMap<Class<?>, FutureTask<Object>> instances = new ConcurrentHashMap<>();
+
+    /**
+     * @param runConstructors True to create the instances with their constructors, false to allocate them without
+     *                        running any constructor.
+     */
+    public InstancePool(boolean runConstructors) {
+        this.runConstructors = runConstructors;
+    }
+
+    public Object getInstance(final Class<?> clazz) {
+        FutureTask<Object> instance = instances.get(clazz);
+        if (instance == null) {
+            FutureTask<Object> newInstance = new FutureTask<>(new Callable<Object>() {
+                @Override
+                public Object call() {
+                    return runConstructors ? InstanceCreator.createInstanceOf(clazz) : InstanceCreator.allocateInstanceOf(clazz);
+                }
+            });
+            instance = instances.putIfAbsent(clazz, newInstance);
+            if (instance == null) {
+                instance = newInstance;
+                instance.run();
+            }
+        }
+        try {
+            return instance.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while creating instance of " + clazz.getName(), e);
+        } catch (ExecutionException e) {
+            instances.remove(clazz, instance);
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException("Error creating instance of " + clazz.getName(), e.getCause());
+        }
+    }
+}
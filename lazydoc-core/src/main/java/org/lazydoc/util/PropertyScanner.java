@@ -0,0 +1,188 @@
+package org.lazydoc.util;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * Finds the bean properties of a class from its public getters and setters like {@link java.beans.Introspector}
+ * does, but straight from the cached {@link ClassMetadata} and without building bean infos. The properties of a
+ * class are scanned once and can be read from any thread.
+ */
+public class PropertyScanner {
+
+    private static final ClassValue<List<BeanProperty>> PROPERTIES = new ClassValue<List<BeanProperty>>() {
+        @Override
+        protected List<BeanProperty> computeValue(Class<?> type) {
+            return Collections.unmodifiableList(scan(type));
+        }
+    };
+
+    /**
+     * @return The properties of the class including the inherited ones sorted by name.
+     */
+    public static List<BeanProperty> getProperties(Class<?> type) {
+        return PROPERTIES.get(type);
+    }
+
+    /**
+     * The properties of the class are merged into the properties of its super class, so an overriding getter
+     * keeps the setter of the super class like with the introspector.
+     */
+    private static List<BeanProperty> scan(Class<?> type) {
+        Map<String, Accessors> accessorsByName = new TreeMap<>();
+        for (Method method : getPublicMethods(type)) {
+            String name = method.getName();
+            Class<?> returnType = method.getReturnType();
+            int parameterCount = method.getParameterTypes().length;
+            if (parameterCount == 0 && returnType == boolean.class && isPrefix(name, "is")) {
+                getAccessors(accessorsByName, name.substring(2)).booleanReadMethod = method;
+            } else if (parameterCount == 0 && returnType != void.class && isPrefix(name, "get")) {
+                getAccessors(accessorsByName, name.substring(3)).readMethods.add(method);
+            } else if (parameterCount == 1 && returnType == void.class && isPrefix(name, "set")) {
+                getAccessors(accessorsByName, name.substring(3)).writeMethods.add(method);
+            }
+        }
+        Map<String, BeanProperty> properties = new TreeMap<>();
+        if (type.getSuperclass() != null) {
+            for (BeanProperty property : getProperties(type.getSuperclass())) {
+                properties.put(property.getName(), property);
+            }
+        }
+        for (Map.Entry<String, Accessors> entry : accessorsByName.entrySet()) {
+            Accessors accessors = entry.getValue();
+            accessors.select(type);
+            BeanProperty superProperty = properties.get(entry.getKey());
+            if (superProperty != null) {
+                accessors.inherit(superProperty);
+            }
+            BeanProperty property = accessors.toProperty(entry.getKey(), type);
+            if (property != null) {
+                properties.put(property.getName(), property);
+            }
+        }
+        return new ArrayList<>(properties.values());
+    }
+
+    /**
+     * @return The public instance methods of the class and its super classes, an overridden method only with its
+     * most specific declaration.
+     */
+    private static Collection<Method> getPublicMethods(Class<?> type) {
+        Map<String, Method> methodsBySignature = new LinkedHashMap<>();
+        for (Class<?> level = type; level != null; level = level.getSuperclass()) {
+            for (Method method : ClassMetadata.of(level).getDeclaredMethods()) {
+                int modifiers = method.getModifiers();
+                if (!Modifier.isPublic(modifiers) || Modifier.isStatic(modifiers) || method.isBridge()) {
+                    continue;
+                }
+                String signature = method.getName() + Arrays.toString(method.getParameterTypes());
+                if (!methodsBySignature.containsKey(signature)) {
+                    methodsBySignature.put(signature, method);
+                }
+            }
+        }
+        return methodsBySignature.values();
+    }
+
+    private static Accessors getAccessors(Map<String, Accessors> accessorsByName, String capitalizedName) {
+        String name = decapitalize(capitalizedName);
+        Accessors accessors = accessorsByName.get(name);
+        if (accessors == null) {
+            accessors = new Accessors();
+            accessorsByName.put(name, accessors);
+        }
+        return accessors;
+    }
+
+    private static boolean isPrefix(String name, String prefix) {
+        return name.length() > prefix.length() && name.startsWith(prefix);
+    }
+
+    /**
+     * Same as {@link java.beans.Introspector#decapitalize(String)}.
+     */
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        char[] chars = name.toCharArray();
+        chars[0] = Character.toLowerCase(chars[0]);
+        return new String(chars);
+    }
+
+    /**
+     * The getters and setters found for one property name. The accessors are selected like the introspector does:
+     * a getter returning a more specific type wins and the setter has to accept the type of the getter. The type
+     * of the property is the type the setter accepts or, without setter, the type the getter returns.
+     */
+    private static class Accessors {
+
+        private Method booleanReadMethod;
+        private final List<Method> readMethods = new ArrayList<>();
+        private final List<Method> writeMethods = new ArrayList<>();
+        private Method readMethod;
+        private Method writeMethod;
+
+        private void select(Class<?> context) {
+            readMethod = booleanReadMethod;
+            Class<?> type = readMethod != null ? boolean.class : null;
+            for (Method method : readMethods) {
+                Class<?> returnType = getReturnType(method, context);
+                if (type == null || type.isAssignableFrom(returnType)) {
+                    readMethod = method;
+                    type = returnType;
+                }
+            }
+            Class<?> writeType = null;
+            for (Method method : writeMethods) {
+                Class<?> parameterType = getParameterType(method, context);
+                if (type == null) {
+                    writeMethod = method;
+                    writeType = parameterType;
+                    type = parameterType;
+                } else if (type.isAssignableFrom(parameterType) && (writeType == null || writeType.isAssignableFrom(parameterType))) {
+                    writeMethod = method;
+                    writeType = parameterType;
+                }
+            }
+        }
+
+        /**
+         * Takes the accessors of the super class property which are not overridden. A getter starting with "is"
+         * is not replaced by a getter of another name.
+         */
+        private void inherit(BeanProperty superProperty) {
+            Method superReadMethod = superProperty.getReadMethod();
+            if (readMethod == null || (superReadMethod != null && superReadMethod.getName().startsWith("is")
+                    && !superReadMethod.getName().equals(readMethod.getName()))) {
+                readMethod = superReadMethod;
+            }
+            if (writeMethod == null) {
+                writeMethod = superProperty.getWriteMethod();
+            }
+        }
+
+        private BeanProperty toProperty(String name, Class<?> context) {
+            Class<?> readType = readMethod != null ? getReturnType(readMethod, context) : null;
+            Class<?> writeType = writeMethod != null ? getParameterType(writeMethod, context) : null;
+            if (readType != null && writeType != null && !writeType.isAssignableFrom(readType)) {
+                writeMethod = null;
+                writeType = null;
+            }
+            Class<?> type = writeType != null ? writeType : readType;
+            if (type == null) {
+                return null;
+            }
+            return new BeanProperty(name, type, readMethod, writeMethod);
+        }
+
+        private static Class<?> getReturnType(Method method, Class<?> context) {
+            return TypeResolver.resolveReturnType(method, context).getRawClass();
+        }
+
+        private static Class<?> getParameterType(Method method, Class<?> context) {
+            return TypeResolver.resolveParameterType(method, 0, context).getRawClass();
+        }
+    }
+}
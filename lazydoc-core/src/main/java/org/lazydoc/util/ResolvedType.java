@@ -0,0 +1,128 @@
+package org.lazydoc.util;
+
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A generic type with all its type arguments resolved to classes, see {@link TypeResolver}. A type without type
+ * arguments is raw, the type variables of its super types are then resolved to their bounds.
+ */
+public class ResolvedType {
+
+    private static final ResolvedType NO_SUPERTYPE = new ResolvedType(Object.class, Collections.<ResolvedType>emptyList(), null);
+
+    private final Class<?> rawClass;
+    private final List<ResolvedType> typeArguments;
+    private final ResolvedType componentType;
+    private final ConcurrentMap<Class<?>, ResolvedType> supertypes = new ConcurrentHashMap<>();
+
+    ResolvedType(Class<?> rawClass, List<ResolvedType> typeArguments, ResolvedType componentType) {
+        this.rawClass = rawClass;
+        this.typeArguments = typeArguments;
+        this.componentType = componentType;
+    }
+
+    public Class<?> getRawClass() {
+        return rawClass;
+    }
+
+    /**
+     * @return The resolved type arguments, empty for a raw type.
+     */
+    public List<ResolvedType> getTypeArguments() {
+        return typeArguments;
+    }
+
+    public boolean isArray() {
+        return componentType != null;
+    }
+
+    /**
+     * @return The component type of an array or null if the type is no array.
+     */
+    public ResolvedType getComponentType() {
+        return componentType;
+    }
+
+    /**
+     * @return The element type of an array or collection or null if the type is neither.
+     */
+    public ResolvedType getElementType() {
+        if (isArray()) {
+            return componentType;
+        }
+        return getTypeArgumentOf(Collection.class, 0);
+    }
+
+    /**
+     * @return The value type of a map or null if the type is no map.
+     */
+    public ResolvedType getMapValueType() {
+        return getTypeArgumentOf(Map.class, 1);
+    }
+
+    /**
+     * @return The super class or interface as seen from this type or null if it is no super type of this type.
+     */
+    public ResolvedType getSupertype(Class<?> supertype) {
+        if (rawClass.equals(supertype)) {
+            return this;
+        }
+        if (!supertype.isAssignableFrom(rawClass) || isArray()) {
+            return null;
+        }
+        ResolvedType resolvedSupertype = supertypes.get(supertype);
+        if (resolvedSupertype == null) {
+            resolvedSupertype = findSupertype(supertype);
+            supertypes.putIfAbsent(supertype, resolvedSupertype != null ? resolvedSupertype : NO_SUPERTYPE);
+        }
+        return resolvedSupertype != NO_SUPERTYPE ? resolvedSupertype : null;
+    }
+
+    private ResolvedType findSupertype(Class<?> supertype) {
+        Map<TypeVariable<?>, ResolvedType> bindings = new HashMap<>();
+        TypeVariable<?>[] typeParameters = rawClass.getTypeParameters();
+        for (int i = 0; i < typeParameters.length && i < typeArguments.size(); i++) {
+            bindings.put(typeParameters[i], typeArguments.get(i));
+        }
+        List<Type> directSupertypes = new ArrayList<>(Arrays.asList(rawClass.getGenericInterfaces()));
+        if (rawClass.getGenericSuperclass() != null) {
+            directSupertypes.add(0, rawClass.getGenericSuperclass());
+        }
+        for (Type directSupertype : directSupertypes) {
+            if (supertype.isAssignableFrom(TypeResolver.erase(directSupertype))) {
+                return TypeResolver.resolve(directSupertype, bindings, null).getSupertype(supertype);
+            }
+        }
+        return null;
+    }
+
+    private ResolvedType getTypeArgumentOf(Class<?> supertype, int index) {
+        ResolvedType resolvedSupertype = getSupertype(supertype);
+        if (resolvedSupertype == null) {
+            return null;
+        }
+        if (index < resolvedSupertype.typeArguments.size()) {
+            return resolvedSupertype.typeArguments.get(index);
+        }
+        return TypeResolver.resolve(supertype.getTypeParameters()[index]);
+    }
+
+    @Override
+    public String toString() {
+        if (isArray()) {
+            return componentType + "[]";
+        }
+        if (typeArguments.isEmpty()) {
+            return rawClass.getName();
+        }
+        StringBuilder name = new StringBuilder(rawClass.getName()).append('<');
+        for (int i = 0; i < typeArguments.size(); i++) {
+            name.append(i > 0 ? ", " : "").append(typeArguments.get(i));
+        }
+        return name.append('>').toString();
+    }
+}
@@ -0,0 +1,130 @@
+package org.lazydoc.util;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Resolves generic types of fields, method return types and parameters to {@link ResolvedType}s. Wildcards are
+ * resolved to their bound, type variables to the type argument the context class binds them to or else to their
+ * bound. Resolved types are cached per context class, or per class if there is no context, in a {@link ClassValue}, so
+ * the cache goes away with the class loader of the classes.
+ */
+public class TypeResolver {
+
+    private static final ClassValue<ConcurrentMap<Type, ResolvedType>> CACHE = new ClassValue<ConcurrentMap<Type, ResolvedType>>() {
+        @Override
+        protected ConcurrentMap<Type, ResolvedType> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    public static ResolvedType resolve(Type type) {
+        return resolve(type, null);
+    }
+
+    /**
+     * @param context The class the type is used in, which binds the type variables of its super classes and
+     *                interfaces. May be null.
+     */
+    public static ResolvedType resolve(Type type, Class<?> context) {
+        Class<?> cacheClass = context != null ? context : type instanceof Class ? (Class<?>) type : null;
+        if (cacheClass == null) {
+            return resolve(type, Collections.<TypeVariable<?>, ResolvedType>emptyMap(), null);
+        }
+        ConcurrentMap<Type, ResolvedType> cache = CACHE.get(cacheClass);
+        ResolvedType resolvedType = cache.get(type);
+        if (resolvedType == null) {
+            resolvedType = resolve(type, Collections.<TypeVariable<?>, ResolvedType>emptyMap(), context);
+            ResolvedType cachedType = cache.putIfAbsent(type, resolvedType);
+            if (cachedType != null) {
+                resolvedType = cachedType;
+            }
+        }
+        return resolvedType;
+    }
+
+    public static ResolvedType resolveReturnType(Method method, Class<?> context) {
+        return resolve(method.getGenericReturnType(), context);
+    }
+
+    public static ResolvedType resolveParameterType(Method method, int index, Class<?> context) {
+        return resolve(method.getGenericParameterTypes()[index], context);
+    }
+
+    public static ResolvedType resolveFieldType(Field field, Class<?> context) {
+        return resolve(field.getGenericType(), context);
+    }
+
+    static ResolvedType resolve(Type type, Map<TypeVariable<?>, ResolvedType> bindings, Class<?> context) {
+        if (type instanceof Class) {
+            Class<?> clazz = (Class<?>) type;
+            if (clazz.isArray()) {
+                return array(resolve(clazz.getComponentType(), bindings, context));
+            }
+            return new ResolvedType(clazz, Collections.<ResolvedType>emptyList(), null);
+        }
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            List<ResolvedType> typeArguments = new ArrayList<>();
+            for (Type typeArgument : parameterizedType.getActualTypeArguments()) {
+                typeArguments.add(resolve(typeArgument, bindings, context));
+            }
+            return new ResolvedType((Class<?>) parameterizedType.getRawType(), Collections.unmodifiableList(typeArguments), null);
+        }
+        if (type instanceof GenericArrayType) {
+            return array(resolve(((GenericArrayType) type).getGenericComponentType(), bindings, context));
+        }
+        if (type instanceof WildcardType) {
+            WildcardType wildcardType = (WildcardType) type;
+            Type bound = wildcardType.getLowerBounds().length > 0 ? wildcardType.getLowerBounds()[0] : wildcardType.getUpperBounds()[0];
+            return resolve(bound, bindings, context);
+        }
+        if (type instanceof TypeVariable) {
+            return resolveTypeVariable((TypeVariable<?>) type, bindings, context);
+        }
+        throw new IllegalArgumentException("Unknown type " + type);
+    }
+
+    private static ResolvedType resolveTypeVariable(TypeVariable<?> typeVariable, Map<TypeVariable<?>, ResolvedType> bindings, Class<?> context) {
+        ResolvedType boundType = bindings.get(typeVariable);
+        if (boundType != null) {
+            return boundType;
+        }
+        GenericDeclaration declaration = typeVariable.getGenericDeclaration();
+        if (context != null && declaration instanceof Class && ((Class<?>) declaration).isAssignableFrom(context)) {
+            ResolvedType supertype = resolve(context).getSupertype((Class<?>) declaration);
+            int index = Arrays.asList(declaration.getTypeParameters()).indexOf(typeVariable);
+            if (supertype != null && index < supertype.getTypeArguments().size()) {
+                return supertype.getTypeArguments().get(index);
+            }
+        }
+        // the bound is only erased, so recursive bounds like T extends Comparable<T> end here
+        return resolve(erase(typeVariable.getBounds()[0]));
+    }
+
+    private static ResolvedType array(ResolvedType componentType) {
+        Class<?> arrayClass = Array.newInstance(componentType.getRawClass(), 0).getClass();
+        return new ResolvedType(arrayClass, Collections.<ResolvedType>emptyList(), componentType);
+    }
+
+    static Class<?> erase(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+        if (type instanceof GenericArrayType) {
+            return Array.newInstance(erase(((GenericArrayType) type).getGenericComponentType()), 0).getClass();
+        }
+        if (type instanceof WildcardType) {
+            return erase(((WildcardType) type).getUpperBounds()[0]);
+        }
+        if (type instanceof TypeVariable) {
+            return erase(((TypeVariable<?>) type).getBounds()[0]);
+        }
+        return Object.class;
+    }
+}
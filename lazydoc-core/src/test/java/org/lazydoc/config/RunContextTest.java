@@ -0,0 +1,55 @@
+package org.lazydoc.config;
+
+import org.junit.Test;
+import org.lazydoc.annotation.IgnoreForDocumentation;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+public class RunContextTest {
+
+    @Test
+    public void testListsAreSplit() {
+        Config config = new Config();
+        config.setPackageToSearchForControllers("org.example.api, org.example.admin,");
+        config.setCustomAnnotationToBeIgnored(IgnoreForDocumentation.class.getName() + "," + Deprecated.class.getName());
+        RunContext runContext = new RunContext(config);
+        assertThat(runContext.getPackagesToSearchForControllers(), is(Arrays.asList("org.example.api", "org.example.admin")));
+        assertThat(runContext.getCustomAnnotationsToBeIgnored().size(), is(2));
+        assertThat(runContext.getCustomAnnotationsToBeIgnored().get(1), equalTo((Class) Deprecated.class));
+    }
+
+    @Test
+    public void testUnconfiguredClassesAreDefaulted() {
+        Config config = new Config();
+        config.setPackageToSearchForControllers("org.example.api");
+        config.setBaseDTOClassname("org.example.Missing");
+        RunContext runContext = new RunContext(config);
+        assertThat(runContext.getBaseDTOClass(), equalTo((Class) Object.class));
+        assertThat(runContext.getControllerClassToStopErrorInspection(), nullValue());
+        assertThat(runContext.getCustomAnnotationsToBeIgnored().isEmpty(), is(true));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testMissingPackageFails() {
+        new RunContext(new Config());
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testUnknownClassFails() {
+        Config config = new Config();
+        config.setPackageToSearchForControllers("org.example.api");
+        config.setControllerClassToStopErrorInspection("org.example.Missing");
+        new RunContext(config);
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testIgnoredClassMustBeAnnotation() {
+        Config config = new Config();
+        config.setPackageToSearchForControllers("org.example.api");
+        config.setCustomAnnotationToBeIgnored(String.class.getName());
+        new RunContext(config);
+    }
+}
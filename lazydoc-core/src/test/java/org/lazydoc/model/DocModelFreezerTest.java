@@ -0,0 +1,110 @@
+package org.lazydoc.model;
+
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class DocModelFreezerTest {
+
+    @Test
+    public void testEqualErrorSetsAreShared() {
+        DocOperation first = createOperation("first", new DocError(404, "NOT_FOUND", "Not " + "found"));
+        DocOperation second = createOperation("second", new DocError(404, "NOT_FOUND", "Not found"));
+        DocDomain domain = new DocDomain();
+        domain.setDomain("Persons");
+        domain.getOperations().add(first);
+        domain.getOperations().add(second);
+        Map<Integer, DocDomain> domains = new TreeMap<>();
+        domains.put(1, domain);
+
+        Map<Integer, DocDomain> frozenDomains = new DocModelFreezer().freezeDomains(domains);
+
+        assertThat(frozenDomains.get(1), sameInstance(domain));
+        assertThat(first.getErrorList(), sameInstance(second.getErrorList()));
+        assertThat(first.getErrorList().iterator().next().getDescription(), sameInstance(second.getErrorList().iterator().next().getDescription()));
+        assertThat(first.getParameters(), sameInstance(Collections.<DocParameter>emptyList()));
+        assertThat(domain.getSubDomains(), sameInstance(Collections.<Integer, DocSubDomain>emptyMap()));
+        Iterator<DocOperation> operations = domain.getOperations().iterator();
+        assertThat(operations.next(), sameInstance(first));
+        assertThat(operations.next(), sameInstance(second));
+        assertThat(domain.getOperations().contains(second), is(true));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testFrozenCollectionsAreUnmodifiable() {
+        DocDataType dataType = new DocDataType();
+        dataType.setName("Person");
+        dataType.getProperties().add(new DocProperty());
+        Map<String, DocDataType> dataTypes = new ConcurrentSkipListMap<>();
+        dataTypes.put("Person", dataType);
+        new DocModelFreezer().freezeDataTypes(dataTypes);
+        dataType.getProperties().add(new DocProperty());
+    }
+
+    @Test
+    public void testDataTypesAreLookedUpByName() {
+        Map<String, DocDataType> dataTypes = new ConcurrentSkipListMap<>();
+        for (String name : Arrays.asList("Person", "Address", "Order")) {
+            DocDataType dataType = new DocDataType();
+            dataType.setName(name);
+            dataTypes.put(name, dataType);
+        }
+        Map<String, DocDataType> frozenDataTypes = new DocModelFreezer().freezeDataTypes(dataTypes);
+        assertThat(new ArrayList<>(frozenDataTypes.keySet()), is(Arrays.asList("Address", "Order", "Person")));
+        assertThat(frozenDataTypes.get("Order").getName(), is("Order"));
+        assertThat(frozenDataTypes.get("Customer"), nullValue());
+        assertThat(frozenDataTypes.get(42), nullValue());
+    }
+
+    @Test
+    public void testEqualEnumValueSetsAreShared() {
+        Set<DocEnum> cachedEnumValues = Collections.unmodifiableSet(createEnumValues("ACTIVE", "INACTIVE"));
+        Map<String, DocDataType> dataTypes = new ConcurrentSkipListMap<>();
+        dataTypes.put("Person", createDataTypeWithEnumValues("Person", cachedEnumValues, cachedEnumValues));
+        dataTypes.put("Order", createDataTypeWithEnumValues("Order", createEnumValues("ACTIVE", "INACTIVE"), createEnumValues("OPEN")));
+
+        Map<String, DocDataType> frozenDataTypes = new DocModelFreezer().freezeDataTypes(dataTypes);
+
+        List<DocProperty> personProperties = frozenDataTypes.get("Person").getProperties();
+        List<DocProperty> orderProperties = frozenDataTypes.get("Order").getProperties();
+        assertThat(personProperties.get(0).getEnumValues(), sameInstance(personProperties.get(1).getEnumValues()));
+        assertThat(personProperties.get(0).getEnumValues().size(), is(2));
+        assertThat(orderProperties.get(0).getEnumValues().iterator().next(), sameInstance(personProperties.get(0).getEnumValues().iterator().next()));
+        assertThat(orderProperties.get(1).getEnumValues().size(), is(1));
+    }
+
+    @SafeVarargs
+    private static DocDataType createDataTypeWithEnumValues(String name, Set<DocEnum>... enumValuesOfProperties) {
+        DocDataType dataType = new DocDataType();
+        dataType.setName(name);
+        for (Set<DocEnum> enumValues : enumValuesOfProperties) {
+            DocProperty property = new DocProperty();
+            property.setEnumValues(enumValues);
+            dataType.getProperties().add(property);
+        }
+        return dataType;
+    }
+
+    private static Set<DocEnum> createEnumValues(String... values) {
+        Set<DocEnum> enumValues = new TreeSet<>();
+        for (String value : values) {
+            DocEnum enumValue = new DocEnum();
+            enumValue.setValue(value);
+            enumValues.add(enumValue);
+        }
+        return enumValues;
+    }
+
+    private DocOperation createOperation(String nickname, DocError error) {
+        DocOperation operation = new DocOperation();
+        operation.setNickname(nickname);
+        operation.getErrorList().add(error);
+        return operation;
+    }
+}
@@ -0,0 +1,46 @@
+package org.lazydoc.parser;
+
+import org.junit.Test;
+import org.lazydoc.annotation.DescriptionAlias;
+import org.lazydoc.config.Config;
+import org.lazydoc.config.RunContext;
+import org.lazydoc.reporter.DocumentationReporter;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class DataTypeParserTest {
+
+    @Test
+    public void testDataTypeWithTheSameNameDoesNotDependOnTheOrder() {
+        DataTypeParser parser = createParser();
+        parser.addDataType(Customers.Person.class);
+        parser.addDataType(Admins.Person.class);
+        DataTypeParser reversedParser = createParser();
+        reversedParser.addDataType(Admins.Person.class);
+        reversedParser.addDataType(Customers.Person.class);
+
+        assertThat(parser.getDataTypes().get("Person").getAlias(), is("Admin"));
+        assertThat(reversedParser.getDataTypes().get("Person").getAlias(), is("Admin"));
+    }
+
+    private DataTypeParser createParser() {
+        Config config = new Config();
+        config.setPackageToSearchForControllers("org.lazydoc.parser");
+        return new DataTypeParser(new DocumentationReporter(), new RunContext(config));
+    }
+
+    public static class Admins {
+
+        @DescriptionAlias("Admin")
+        public static class Person {
+        }
+    }
+
+    public static class Customers {
+
+        @DescriptionAlias("Customer")
+        public static class Person {
+        }
+    }
+}
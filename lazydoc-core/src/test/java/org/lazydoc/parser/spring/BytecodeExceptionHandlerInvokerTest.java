@@ -0,0 +1,117 @@
+package org.lazydoc.parser.spring;
+
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class BytecodeExceptionHandlerInvokerTest {
+
+    private BytecodeExceptionHandlerInvoker invoker = new BytecodeExceptionHandlerInvoker();
+
+    @Test
+    public void testReturnedLiteral() throws Exception {
+        assertThat(getErrorMessage("literal"), is("INVALID_ARGUMENT"));
+    }
+
+    @Test
+    public void testConstantsPassedToReturnedObject() throws Exception {
+        assertThat(getErrorMessage("errorObject"), is("NOT_FOUND, Resource not found"));
+    }
+
+    @Test
+    public void testConstantsPassedToResponseEntity() throws Exception {
+        assertThat(getErrorMessage("responseEntity"), is("CONFLICT, Already exists"));
+    }
+
+    @Test
+    public void testMessageOfHandledException() throws Exception {
+        assertThat(getErrorMessage("exceptionMessage"), is(""));
+    }
+
+    @Test
+    public void testBranchingHandlerIsNotRead() throws Exception {
+        assertThat(getErrorMessage("branching"), is(""));
+    }
+
+    @Test
+    public void testAllHandlersOfControllerInOneCall() throws Exception {
+        Map<Method, ExceptionHandler> exceptionHandlers = new LinkedHashMap<>();
+        for (Method method : HandlerController.class.getDeclaredMethods()) {
+            exceptionHandlers.put(method, method.getAnnotation(ExceptionHandler.class));
+        }
+        Map<Method, String> errorMessages = invoker.getErrorMessagesFromExceptionHandlers(exceptionHandlers, null);
+        assertThat(errorMessages.get(getHandler("literal")), is("INVALID_ARGUMENT"));
+        assertThat(errorMessages.get(getHandler("errorObject")), is("NOT_FOUND, Resource not found"));
+        assertThat(errorMessages.get(getHandler("branching")), is(nullValue()));
+    }
+
+    private String getErrorMessage(String handlerName) throws Exception {
+        Method method = getHandler(handlerName);
+        return invoker.getErrorMessageFromExceptionHandler(method, null, method.getAnnotation(ExceptionHandler.class));
+    }
+
+    private Method getHandler(String handlerName) throws Exception {
+        for (Method method : HandlerController.class.getDeclaredMethods()) {
+            if (method.getName().equals(handlerName)) {
+                return method;
+            }
+        }
+        throw new NoSuchMethodException(handlerName);
+    }
+
+    enum ErrorCode {
+        NOT_FOUND, CONFLICT
+    }
+
+    static class ErrorVO {
+
+        ErrorVO(ErrorCode errorCode, String message) {
+            throw new IllegalStateException("Exception handlers must not be run");
+        }
+    }
+
+    static class HandlerController {
+
+        HandlerController() {
+            throw new IllegalStateException("Controller must not be instantiated");
+        }
+
+        @ExceptionHandler(IllegalArgumentException.class)
+        public String literal() {
+            return "INVALID_ARGUMENT";
+        }
+
+        @ExceptionHandler(IllegalStateException.class)
+        public ErrorVO errorObject() {
+            return new ErrorVO(ErrorCode.NOT_FOUND, "Resource not found");
+        }
+
+        @ExceptionHandler(UnsupportedOperationException.class)
+        public ResponseEntity<ErrorVO> responseEntity() {
+            ErrorVO error = new ErrorVO(ErrorCode.CONFLICT, "Already exists");
+            return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+        }
+
+        @ExceptionHandler(RuntimeException.class)
+        public String exceptionMessage(RuntimeException exception) {
+            return exception.getMessage();
+        }
+
+        @ExceptionHandler(Exception.class)
+        public String branching(Exception exception) {
+            if (exception.getCause() != null) {
+                return "CAUSED";
+            }
+            return "UNCAUSED";
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.lazydoc.parser.spring;
+
+import org.junit.Test;
+import org.lazydoc.model.DocError;
+import org.lazydoc.parser.spring.ExceptionHandlerIndex.ControllerInstance;
+import org.lazydoc.reporter.DocumentationReporter;
+import org.lazydoc.util.InstancePool;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class ExceptionHandlerIndexTest {
+
+    private InstancePool instancePool = new InstancePool(false);
+
+    @Test
+    public void testErrorMessageIsReadForEveryControllerClass() {
+        ExceptionHandlerIndex index = new ExceptionHandlerIndex(new DocumentationReporter(), new ControllerNameResolver(true));
+        assertThat(getError(index, PersonController.class).getErrorCode(), is("PersonController"));
+        assertThat(getError(index, OrderController.class).getErrorCode(), is("OrderController"));
+        assertThat(getError(index, PersonController.class), sameInstance(getError(index, PersonController.class)));
+    }
+
+    @Test
+    public void testErrorMessageIsSharedWithoutControllerInstance() {
+        ExceptionHandlerIndex index = new ExceptionHandlerIndex(new DocumentationReporter(), new ControllerNameResolver(false));
+        DocError error = getError(index, PersonController.class);
+        assertThat(error.getErrorCode(), is("PersonController"));
+        assertThat(getError(index, OrderController.class), sameInstance(error));
+    }
+
+    private DocError getError(ExceptionHandlerIndex index, Class<?> controller) {
+        Set<DocError> errors = index.getErrors(controller, null, new ControllerInstance(instancePool, controller), null);
+        assertThat(errors.size(), is(1));
+        return errors.iterator().next();
+    }
+
+    private static class ControllerNameResolver implements ExceptionHandlerIndex.ErrorMessageResolver {
+
+        private final boolean controllerInstanceRequired;
+
+        private ControllerNameResolver(boolean controllerInstanceRequired) {
+            this.controllerInstanceRequired = controllerInstanceRequired;
+        }
+
+        @Override
+        public String getErrorMessage(Method method, ControllerInstance controllerInstance, ExceptionHandler exceptionHandler) {
+            return controllerInstance.getController().getSimpleName();
+        }
+
+        @Override
+        public boolean isControllerInstanceRequired() {
+            return controllerInstanceRequired;
+        }
+    }
+
+    public static abstract class BaseController {
+
+        @ExceptionHandler(IllegalArgumentException.class)
+        public String handleIllegalArgument() {
+            return getClass().getSimpleName();
+        }
+    }
+
+    public static class PersonController extends BaseController {
+    }
+
+    public static class OrderController extends BaseController {
+    }
+}
@@ -0,0 +1,48 @@
+package org.lazydoc.parser.spring;
+
+import org.junit.Test;
+import org.lazydoc.model.DocAuthorization;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class PreAuthorizeParserTest {
+
+    private PreAuthorizeParser parser = new PreAuthorizeParser();
+
+    @Test
+    public void testRolesOfSingleRoleFunction() {
+        assertThat(getRoles("hasRole('ADMIN')"), is(Collections.singletonList("ADMIN")));
+        assertThat(getRoles(" hasAnyRole('ADMIN', \"USER\") "), is(Arrays.asList("ADMIN", "USER")));
+        assertThat(getRoles("hasAuthority('WRITE')"), is(Collections.singletonList("WRITE")));
+        assertThat(parser.parse("hasAnyAuthority('READ','WRITE')").getRoleNames(), is("READ,WRITE"));
+    }
+
+    @Test
+    public void testOtherExpressionsAreDocumentedAsTheyAre() {
+        for (String expression : Arrays.asList("permitAll", "isAuthenticated()", "hasPermission(#id, 'read')",
+                "hasRole('A') and hasRole('B')", "hasRole('A') or hasRole('B')", "!hasRole('A')",
+                "hasRole('ADMIN_' + #mandant.x)", "hasRole(#role)")) {
+            DocAuthorization authorization = parser.parse(expression);
+            assertThat(expression, authorization.getRoles(), is(Collections.<String>emptyList()));
+            assertThat(authorization.getRoleNames(), is(expression));
+        }
+    }
+
+    @Test
+    public void testSameExpressionIsParsedOncePerParser() {
+        DocAuthorization authorization = parser.parse("hasRole('ADMIN')");
+        assertThat(parser.parse("hasRole('ADMIN')"), sameInstance(authorization));
+        assertThat(new PreAuthorizeParser().parse("hasRole('ADMIN')"), not(sameInstance(authorization)));
+    }
+
+    private List<String> getRoles(String expression) {
+        return parser.parse(expression).getRoles();
+    }
+}
@@ -0,0 +1,34 @@
+package org.lazydoc.parser.spring;
+
+import org.junit.Test;
+import org.lazydoc.model.DocPath;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class RequestPathParserTest {
+
+    @Test
+    public void testPathIsJoinedLikeTheConcatenatedMappings() {
+        assertThat(getPath("", ""), is("/"));
+        assertThat(getPath("", "/persons"), is("/persons"));
+        assertThat(getPath("/api/", "/persons"), is("/api/persons"));
+        assertThat(getPath("api", "persons/"), is("/api/persons/"));
+        assertThat(getPath("/api", ""), is("/api/"));
+    }
+
+    @Test
+    public void testPathVariablesInOrder() {
+        DocPath controllerPath = RequestPathParser.parseControllerPath("/customers/{customerId}");
+        DocPath path = RequestPathParser.parseMethodPath(controllerPath, "/orders/{orderId:[0-9]{1,8}}/items/{from}-{to}");
+        assertThat(path.getPrefix(), is("/customers/{customerId}"));
+        assertThat(path.getPathVariables(), is(Arrays.asList("customerId", "orderId", "from", "to")));
+        assertThat(path.getSegments().size(), is(6));
+    }
+
+    private String getPath(String controllerMapping, String methodMapping) {
+        return RequestPathParser.parseMethodPath(RequestPathParser.parseControllerPath(controllerMapping), methodMapping).getPath();
+    }
+}
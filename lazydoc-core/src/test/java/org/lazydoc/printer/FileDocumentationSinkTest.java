@@ -0,0 +1,64 @@
+package org.lazydoc.printer;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class FileDocumentationSinkTest {
+
+    @Test
+    public void testOnlyChangedFilesAreWritten() throws Exception {
+        File target = Files.createTempDirectory("lazydoc-sink").toFile();
+        try {
+            write(target, "/api/unchanged.jsp", "{ \"a\" : 1 }");
+            write(target, "/api/changed.jsp", "{ \"b\" : 1 }");
+            File unchanged = new File(target, "api/unchanged.jsp");
+            File changed = new File(target, "api/changed.jsp");
+            unchanged.setLastModified(1000000000000L);
+            changed.setLastModified(1000000000000L);
+
+            write(target, "/api/unchanged.jsp", "{ \"a\" : 1 }");
+            write(target, "/api/changed.jsp", "{ \"b\" : 2 }");
+
+            assertThat(unchanged.lastModified(), is(1000000000000L));
+            assertThat(changed.lastModified() > 1000000000000L, is(true));
+            assertThat(FileUtils.readFileToString(changed, "UTF-8"), is("{ \"b\" : 2 }"));
+            assertThat(new File(target, "api").list().length, is(2));
+        } finally {
+            FileUtils.deleteDirectory(target);
+        }
+    }
+
+    @Test
+    public void testAbortedFilesAreNotWritten() throws Exception {
+        File target = Files.createTempDirectory("lazydoc-sink").toFile();
+        try {
+            write(target, "/api/persons.jsp", "{ \"persons\" : [ ] }");
+            FileDocumentationSink sink = new FileDocumentationSink(target.getPath());
+            try (OutputStream out = sink.open("/api/persons.jsp")) {
+                out.write("{ \"pers".getBytes(StandardCharsets.UTF_8));
+            }
+            sink.open("/api/open.jsp").write('{');
+            sink.abort();
+
+            assertThat(FileUtils.readFileToString(new File(target, "api/persons.jsp"), "UTF-8"), is("{ \"persons\" : [ ] }"));
+            assertThat(new File(target, "api").list().length, is(1));
+        } finally {
+            FileUtils.deleteDirectory(target);
+        }
+    }
+
+    private void write(File target, String filename, String content) throws Exception {
+        try (FileDocumentationSink sink = new FileDocumentationSink(target.getPath());
+             OutputStream out = sink.open(filename)) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
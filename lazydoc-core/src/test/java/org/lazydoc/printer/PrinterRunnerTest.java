@@ -0,0 +1,60 @@
+package org.lazydoc.printer;
+
+import org.junit.Test;
+import org.lazydoc.config.PrinterConfig;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class PrinterRunnerTest {
+
+    private static CountDownLatch running;
+
+    @Test
+    public void testPrintersRunAtTheSameTime() {
+        running = new CountDownLatch(2);
+        new PrinterRunner(0).run(Arrays.asList(new PrinterConfig(WaitingPrinter.class.getName(), "a"),
+                new PrinterConfig(WaitingPrinter.class.getName(), "b")));
+        assertThat(running.getCount(), is(0L));
+    }
+
+    @Test
+    public void testErrorsOfAllPrintersAreThrown() {
+        running = new CountDownLatch(1);
+        try {
+            new PrinterRunner(1).run(Arrays.asList(new PrinterConfig(FailingPrinter.class.getName(), "a"),
+                    new PrinterConfig(WaitingPrinter.class.getName(), "b"),
+                    new PrinterConfig("org.example.MissingPrinter", "c")));
+            fail("Errors of the printers were not thrown");
+        } catch (RuntimeException e) {
+            assertThat(e.getMessage(), is("2 of 3 printers failed, see the suppressed errors"));
+            assertThat(e.getSuppressed()[0].getMessage(), is("Error running printer " + FailingPrinter.class.getName() + ": Output path a is broken"));
+            assertThat(e.getSuppressed()[1].getMessage(), is("Error running printer org.example.MissingPrinter: org.example.MissingPrinter"));
+        }
+        assertThat(running.getCount(), is(0L));
+    }
+
+    public static class WaitingPrinter extends DocumentationPrinter {
+
+        @Override
+        public void print(PrinterConfig printerConfig) throws Exception {
+            running.countDown();
+            if (!running.await(10, TimeUnit.SECONDS)) {
+                throw new RuntimeException("Printers did not run at the same time");
+            }
+        }
+    }
+
+    public static class FailingPrinter extends DocumentationPrinter {
+
+        @Override
+        public void print(PrinterConfig printerConfig) {
+            throw new RuntimeException("Output path " + printerConfig.getOutputPath() + " is broken");
+        }
+    }
+}
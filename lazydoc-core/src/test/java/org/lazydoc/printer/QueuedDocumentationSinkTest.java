@@ -0,0 +1,136 @@
+package org.lazydoc.printer;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class QueuedDocumentationSinkTest {
+
+    @Test
+    public void testFilesAreWrittenWhenTheSinkIsClosed() throws Exception {
+        MemorySink memory = new MemorySink();
+        byte[] large = new byte[QueuedDocumentationSink.CHUNK_SIZE * 3 + 17];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = (byte) i;
+        }
+        try (QueuedDocumentationSink sink = new QueuedDocumentationSink(memory, 2)) {
+            try (OutputStream outer = sink.open("outer")) {
+                outer.write('{');
+                try (OutputStream inner = sink.open("inner")) {
+                    inner.write(large);
+                }
+                outer.write('}');
+            }
+            sink.open("empty").close();
+        }
+        assertThat(memory.files.get("outer").toString("UTF-8"), is("{}"));
+        assertThat(memory.files.get("inner").toByteArray(), is(large));
+        assertThat(memory.files.get("empty").size(), is(0));
+    }
+
+    @Test
+    public void testErrorOfTheWriterIsThrownOnClose() throws Exception {
+        MemorySink memory = new MemorySink();
+        memory.failing = "broken";
+        QueuedDocumentationSink sink = new QueuedDocumentationSink(memory, 1);
+        for (int i = 0; i < 10; i++) {
+            try (OutputStream out = sink.open(i == 0 ? "broken" : "file" + i)) {
+                out.write(new byte[QueuedDocumentationSink.CHUNK_SIZE * 2]);
+            } catch (IOException e) {
+                // thrown as soon as the writer failed
+            }
+        }
+        try {
+            sink.close();
+            fail("Error of the writer thread was not thrown");
+        } catch (IOException e) {
+            assertThat(e.getMessage(), is("Error writing file broken"));
+        }
+        assertThat(memory.aborted, is(true));
+    }
+
+    @Test
+    public void testFilesAreNotWrittenWhenThePrinterFails() throws Exception {
+        File target = Files.createTempDirectory("lazydoc-sink").toFile();
+        try {
+            write(target, "{ \"persons\" : [ ] }");
+            QueuedDocumentationSink sink = new QueuedDocumentationSink(new FileDocumentationSink(target.getPath()), 64, 4);
+            try {
+                try (OutputStream out = sink.open("/api/persons.jsp")) {
+                    out.write("{ \"persons\" : [".getBytes(StandardCharsets.UTF_8));
+                    throw new IllegalStateException("Rendering failed");
+                }
+            } catch (IllegalStateException e) {
+                sink.abort();
+            }
+            assertThat(FileUtils.readFileToString(new File(target, "api/persons.jsp"), "UTF-8"), is("{ \"persons\" : [ ] }"));
+            assertThat(new File(target, "api").list().length, is(1));
+        } finally {
+            FileUtils.deleteDirectory(target);
+        }
+    }
+
+    @Test
+    public void testFileOpenedAgainKeepsTheLastContent() throws Exception {
+        File target = Files.createTempDirectory("lazydoc-sink").toFile();
+        try {
+            try (QueuedDocumentationSink sink = new QueuedDocumentationSink(new FileDocumentationSink(target.getPath()), 64, 4)) {
+                for (int i = 0; i < 40; i++) {
+                    try (OutputStream out = sink.open("/api/_params/id.jsp")) {
+                        out.write(("{ \"version\" : " + i + " }").getBytes(StandardCharsets.UTF_8));
+                    }
+                    sink.open("/api/file" + i + ".jsp").close();
+                }
+            }
+            assertThat(FileUtils.readFileToString(new File(target, "api/_params/id.jsp"), "UTF-8"), is("{ \"version\" : 39 }"));
+            assertThat(new File(target, "api/_params").list().length, is(1));
+        } finally {
+            FileUtils.deleteDirectory(target);
+        }
+    }
+
+    private void write(File target, String content) throws IOException {
+        try (QueuedDocumentationSink sink = new QueuedDocumentationSink(new FileDocumentationSink(target.getPath()), 64, 4);
+             OutputStream out = sink.open("/api/persons.jsp")) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static class MemorySink implements DocumentationSink {
+
+        private final Map<String, ByteArrayOutputStream> files = new ConcurrentHashMap<>();
+        private String failing;
+        private volatile boolean aborted;
+
+        @Override
+        public OutputStream open(String filename) throws IOException {
+            if (filename.equals(failing)) {
+                throw new IOException("Disk full");
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            files.put(filename, out);
+            return out;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void abort() {
+            aborted = true;
+        }
+    }
+}
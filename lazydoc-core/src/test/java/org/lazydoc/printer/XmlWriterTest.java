@@ -0,0 +1,85 @@
+package org.lazydoc.printer;
+
+import org.junit.Test;
+
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class XmlWriterTest {
+
+    @Test
+    public void testIndentedAndEscaped() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (XmlWriter xml = new XmlWriter(out)) {
+            xml.startElement("chapter", "xml:id", "a\"b");
+            xml.element("title", "Fish & <Chips>");
+            xml.element("para", "");
+            xml.processingInstruction("dbfo", "keep-together=\"auto\" ");
+            xml.startElement("entry");
+            xml.element("uri", "/persons/{id}");
+            xml.endElement();
+            xml.endElement();
+        }
+        assertThat(out.toString("UTF-8"), is("<?xml version=\"1.0\" encoding=\"UTF-8\"?><chapter xml:id=\"a&quot;b\">\n"
+                + "    <title>Fish &amp; &lt;Chips&gt;</title>\n"
+                + "    <para/>\n"
+                + "    <?dbfo keep-together=\"auto\" ?>\n"
+                + "    <entry>\n"
+                + "        <uri>/persons/{id}</uri>\n"
+                + "    </entry>\n"
+                + "</chapter>\n"));
+    }
+
+    @Test
+    public void testMarkupLikePrettyFormattedStrings() throws Exception {
+        String[] descriptions = {
+                "Fish & Chips",
+                "See <emphasis>this</emphasis> & <link xlink:href=\"http://example.com/persons\">that</link> for details.",
+                "<emphasis role=\"bold\">Deprecated</emphasis>",
+                "Values:<itemizedlist><listitem><para>A</para></listitem><listitem><para>B & C</para></listitem></itemizedlist>",
+                ""};
+        for (String description : descriptions) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (XmlWriter xml = new XmlWriter(out)) {
+                xml.startElement("sect2", "xmlns:xlink", "http://www.w3.org/1999/xlink", "xml:id", "findperson");
+                xml.element("title", "Find person");
+                xml.markupElement("para", description);
+                xml.endElement();
+            }
+            String baseline = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><sect2 xmlns:xlink=\"http://www.w3.org/1999/xlink\" xml:id=\"findperson\"><title>Find person</title><para>"
+                    + description.replaceAll("&", "&amp;") + "</para></sect2>";
+            assertThat(description, out.toString("UTF-8"), is(prettyFormat(baseline)));
+        }
+    }
+
+    @Test
+    public void testMalformedMarkupIsWrittenAsText() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (XmlWriter xml = new XmlWriter(out)) {
+            xml.markupElement("para", "a < b &nbsp; <emphasis>c");
+        }
+        assertThat(out.toString("UTF-8"), is("<?xml version=\"1.0\" encoding=\"UTF-8\"?><para>a &lt; b &amp;nbsp; &lt;emphasis&gt;c</para>\n"));
+    }
+
+    /**
+     * The DocBook printer built the files as strings and formatted them like this before it used the writer.
+     */
+    private String prettyFormat(String input) throws Exception {
+        StringWriter stringWriter = new StringWriter();
+        TransformerFactory transformerFactory = TransformerFactory.newInstance();
+        transformerFactory.setAttribute("indent-number", 4);
+        Transformer transformer = transformerFactory.newTransformer();
+        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+        transformer.transform(new StreamSource(new StringReader(input)), new StreamResult(stringWriter));
+        return stringWriter.toString();
+    }
+}
@@ -0,0 +1,121 @@
+package org.lazydoc.scanner;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+import org.lazydoc.annotation.processor.ControllerIndexProcessor;
+import org.lazydoc.scanner.fixture.SampleController;
+import org.lazydoc.scanner.fixture.SampleRestController;
+import org.lazydoc.scanner.fixture.SampleSubController;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.File;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ClassFileScannerTest {
+
+    @Test
+    public void testReadClassFile() throws Exception {
+        ClassFileInfo classFileInfo = ClassFileReader.read(getClassFileBytes(SampleRestController.class));
+        assertThat(classFileInfo.getClassName(), is(SampleRestController.class.getName()));
+        assertThat(classFileInfo.getSuperClassName(), is(Object.class.getName()));
+        assertThat(classFileInfo.getAnnotations(), hasItems(RestController.class.getName(), RequestMapping.class.getName()));
+    }
+
+    @Test
+    public void testReadSuperClassOfClassFile() throws Exception {
+        ClassFileInfo classFileInfo = ClassFileReader.read(getClassFileBytes(SampleSubController.class));
+        assertThat(classFileInfo.getSuperClassName(), is("org.lazydoc.scanner.fixture.SampleController"));
+        assertThat(classFileInfo.getAnnotations().isEmpty(), is(true));
+    }
+
+    @Test
+    public void testScanForControllers() throws Exception {
+        ClassFileScanResult scanResult = new ClassFileScanner(getClass().getClassLoader(), 2).scan("org.lazydoc.scanner.fixture");
+        assertThat(scanResult.getClassesAnnotatedWith(Controller.class.getName(), RestController.class.getName()),
+                is((SortedSet<String>) new TreeSet<>(Arrays.asList(
+                        "org.lazydoc.scanner.fixture.SampleController",
+                        "org.lazydoc.scanner.fixture.SampleRestController",
+                        "org.lazydoc.scanner.fixture.SampleSubController",
+                        "org.lazydoc.scanner.fixture.StereotypedController"))));
+    }
+
+    @Test
+    public void testScanWithIndex() throws Exception {
+        File indexFile = File.createTempFile("scan-index", ".txt");
+        indexFile.delete();
+        try {
+            ClassFileScanIndex index = ClassFileScanIndex.load(indexFile);
+            ClassFileScanResult scanResult = new ClassFileScanner(getClass().getClassLoader(), 2, index).scan("org.lazydoc.scanner.fixture");
+            index.save();
+            assertThat(indexFile.isFile(), is(true));
+            ClassFileScanIndex reloadedIndex = ClassFileScanIndex.load(indexFile);
+            ClassFileScanResult indexedScanResult = new ClassFileScanner(getClass().getClassLoader(), 2, reloadedIndex).scan("org.lazydoc.scanner.fixture");
+            assertThat(indexedScanResult.getClassesAnnotatedWith(Controller.class.getName(), RestController.class.getName()),
+                    is(scanResult.getClassesAnnotatedWith(Controller.class.getName(), RestController.class.getName())));
+            assertThat(indexedScanResult.getClass(SampleRestController.class.getName()).getAnnotations(),
+                    hasItems(RestController.class.getName(), RequestMapping.class.getName()));
+        } finally {
+            indexFile.delete();
+        }
+    }
+
+    @Test
+    public void testControllerIndexMatchesScan() throws Exception {
+        ClassFileScanResult scanResult = new ClassFileScanner(getClass().getClassLoader(), 2).scan("org.lazydoc.scanner.fixture");
+        SortedSet<String> indexedControllers = new TreeSet<>();
+        for (SortedSet<String> controllers : new ControllerIndexReader(getClass().getClassLoader()).getControllers("org.lazydoc.scanner.fixture").values()) {
+            indexedControllers.addAll(controllers);
+        }
+        assertThat(indexedControllers, is(scanResult.getClassesAnnotatedWith(Controller.class.getName(), RestController.class.getName())));
+    }
+
+    @Test
+    public void testOnlyRootsWithoutControllerIndexAreScanned() throws Exception {
+        File indexedRoot = Files.createTempDirectory("lazydoc-indexed").toFile();
+        File scannedRoot = Files.createTempDirectory("lazydoc-scanned").toFile();
+        try {
+            FileUtils.writeStringToFile(new File(indexedRoot, ControllerIndexProcessor.CONTROLLER_INDEX),
+                    "org.lazydoc.scanner.fixture.IndexedController\n", "UTF-8");
+            copyClassFile(SampleController.class, indexedRoot);
+            copyClassFile(SampleRestController.class, scannedRoot);
+            URLClassLoader classLoader = new URLClassLoader(new URL[]{indexedRoot.toURI().toURL(), scannedRoot.toURI().toURL()}, null);
+
+            Map<String, SortedSet<String>> indexedControllers = new ControllerIndexReader(classLoader).getControllers("org.lazydoc.scanner.fixture");
+            ClassFileScanResult scanResult = new ClassFileScanner(classLoader, 2).scan("org.lazydoc.scanner.fixture", indexedControllers.keySet());
+
+            assertThat(new ArrayList<>(indexedControllers.values()),
+                    is(Collections.<SortedSet<String>>singletonList(new TreeSet<>(Collections.singleton("org.lazydoc.scanner.fixture.IndexedController")))));
+            assertThat(scanResult.getClassesAnnotatedWith(Controller.class.getName(), RestController.class.getName()),
+                    is((SortedSet<String>) new TreeSet<>(Collections.singleton(SampleRestController.class.getName()))));
+        } finally {
+            FileUtils.deleteDirectory(indexedRoot);
+            FileUtils.deleteDirectory(scannedRoot);
+        }
+    }
+
+    private void copyClassFile(Class<?> clazz, File root) throws Exception {
+        FileUtils.writeByteArrayToFile(new File(root, clazz.getName().replace('.', '/') + ".class"), getClassFileBytes(clazz));
+    }
+
+    private byte[] getClassFileBytes(Class<?> clazz) throws Exception {
+        try (InputStream in = clazz.getResourceAsStream(clazz.getSimpleName() + ".class")) {
+            return IOUtils.toByteArray(in);
+        }
+    }
+}
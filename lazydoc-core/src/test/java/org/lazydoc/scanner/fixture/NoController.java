@@ -0,0 +1,5 @@
+package org.lazydoc.scanner.fixture;
+
+@Deprecated
+public class NoController {
+}
@@ -0,0 +1,7 @@
+package org.lazydoc.scanner.fixture;
+
+import org.springframework.stereotype.Controller;
+
+@Controller
+public class SampleController {
+}
@@ -0,0 +1,10 @@
+package org.lazydoc.scanner.fixture;
+
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping(value = "/sample", method = {RequestMethod.GET, RequestMethod.POST})
+public class SampleRestController {
+}
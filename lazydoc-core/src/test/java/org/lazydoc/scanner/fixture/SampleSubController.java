@@ -0,0 +1,4 @@
+package org.lazydoc.scanner.fixture;
+
+public class SampleSubController extends SampleController {
+}
@@ -0,0 +1,5 @@
+package org.lazydoc.scanner.fixture;
+
+@ApiController
+public class StereotypedController {
+}
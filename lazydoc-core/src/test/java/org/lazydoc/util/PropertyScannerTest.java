@@ -0,0 +1,142 @@
+package org.lazydoc.util;
+
+import org.junit.Test;
+
+import java.beans.IndexedPropertyDescriptor;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class PropertyScannerTest {
+
+    @Test
+    public void testPropertiesOfSimpleBean() throws Exception {
+        assertSameAsIntrospector(BaseBean.class);
+    }
+
+    @Test
+    public void testInheritedAndOverriddenProperties() throws Exception {
+        assertSameAsIntrospector(SubBean.class);
+    }
+
+    @Test
+    public void testPropertiesWithResolvedTypeVariables() throws Exception {
+        assertSameAsIntrospector(LongIdBean.class);
+    }
+
+    @Test
+    public void testPropertyTypeOfTypeVariable() throws Exception {
+        for (BeanProperty property : PropertyScanner.getProperties(LongIdBean.class)) {
+            if (property.getName().equals("id")) {
+                assertThat(property.getType().getName(), is(Long.class.getName()));
+            }
+        }
+    }
+
+    private void assertSameAsIntrospector(Class<?> type) throws Exception {
+        List<String> expected = new ArrayList<>();
+        for (PropertyDescriptor descriptor : Introspector.getBeanInfo(type).getPropertyDescriptors()) {
+            if (descriptor instanceof IndexedPropertyDescriptor) {
+                continue;
+            }
+            expected.add(descriptor.getName() + " " + descriptor.getPropertyType() + " " + descriptor.getReadMethod() + " " + descriptor.getWriteMethod());
+        }
+        List<String> properties = new ArrayList<>();
+        for (BeanProperty property : PropertyScanner.getProperties(type)) {
+            properties.add(property.getName() + " " + property.getType() + " " + property.getReadMethod() + " " + property.getWriteMethod());
+        }
+        assertThat(properties, is(expected));
+    }
+
+    public static class BaseBean {
+
+        public String getName() {
+            return null;
+        }
+
+        public void setName(String name) {
+        }
+
+        public boolean isActive() {
+            return false;
+        }
+
+        public void setActive(boolean active) {
+        }
+
+        public Number getAmount() {
+            return null;
+        }
+
+        public void setAmount(Number amount) {
+        }
+
+        public void setAmount(String amount) {
+        }
+
+        public String getURL() {
+            return null;
+        }
+
+        public void setOnlyWritten(int value) {
+        }
+
+        public static String getStatic() {
+            return null;
+        }
+
+        public String get() {
+            return null;
+        }
+
+        public String getIndexed(int index) {
+            return null;
+        }
+
+        protected String getHidden() {
+            return null;
+        }
+    }
+
+    public static class SubBean extends BaseBean {
+
+        @Override
+        public Integer getAmount() {
+            return null;
+        }
+
+        @Override
+        public String getName() {
+            return null;
+        }
+
+        public Boolean getValid() {
+            return null;
+        }
+
+        public boolean isValid() {
+            return false;
+        }
+    }
+
+    public static class IdBean<T> {
+
+        public T getId() {
+            return null;
+        }
+
+        public void setId(T id) {
+        }
+
+        public List<T> getIds() {
+            return null;
+        }
+    }
+
+    public static class LongIdBean extends IdBean<Long> {
+    }
+}
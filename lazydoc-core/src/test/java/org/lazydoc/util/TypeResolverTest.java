@@ -0,0 +1,74 @@
+package org.lazydoc.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+public class TypeResolverTest {
+
+    @Test
+    public void testElementTypeOfWildcardList() throws Exception {
+        assertThat(elementTypeOf("wildcards", null), equalTo((Class) Number.class));
+    }
+
+    @Test
+    public void testElementTypeOfNestedList() throws Exception {
+        ResolvedType elementType = TypeResolver.resolveFieldType(Holder.class.getField("nested"), null).getElementType();
+        assertThat(elementType.getRawClass(), equalTo((Class) Set.class));
+        assertThat(elementType.getElementType().getRawClass(), equalTo((Class) String.class));
+    }
+
+    @Test
+    public void testElementTypeOfGenericArray() throws Exception {
+        assertThat(elementTypeOf("array", LongHolder.class), equalTo((Class) Long.class));
+    }
+
+    @Test
+    public void testElementTypeOfTypeVariableBoundInSubclass() throws Exception {
+        assertThat(elementTypeOf("values", LongHolder.class), equalTo((Class) Long.class));
+        assertThat(elementTypeOf("values", Holder.class), equalTo((Class) Object.class));
+    }
+
+    @Test
+    public void testElementTypeOfListSubclass() throws Exception {
+        assertThat(elementTypeOf("names", null), equalTo((Class) String.class));
+    }
+
+    @Test
+    public void testMapValueType() throws Exception {
+        ResolvedType map = TypeResolver.resolveFieldType(Holder.class.getField("valuesByName"), LongHolder.class);
+        assertThat(map.getMapValueType().getRawClass(), equalTo((Class) Long.class));
+        assertThat(map.getElementType(), nullValue());
+    }
+
+    @Test
+    public void testRepeatedLookupIsCached() throws Exception {
+        ResolvedType resolvedType = TypeResolver.resolveFieldType(Holder.class.getField("values"), LongHolder.class);
+        assertThat(TypeResolver.resolveFieldType(Holder.class.getField("values"), LongHolder.class), sameInstance(resolvedType));
+    }
+
+    private Class<?> elementTypeOf(String fieldName, Class<?> context) throws Exception {
+        return TypeResolver.resolveFieldType(Holder.class.getField(fieldName), context).getElementType().getRawClass();
+    }
+
+    public static class Holder<T> {
+        public List<? extends Number> wildcards;
+        public List<Set<String>> nested;
+        public T[] array;
+        public List<T> values;
+        public NameList names;
+        public Map<String, T> valuesByName;
+    }
+
+    public static class LongHolder extends Holder<Long> {
+    }
+
+    public static class NameList extends ArrayList<String> {
+    }
+}
@@ -85,6 +85,9 @@ public class LazyDocMojo extends AbstractMojo {
         Log log = getLog();
         String logLevel = log.isDebugEnabled() ? "DEBUG" : log.isWarnEnabled() ? "WARN" : log.isInfoEnabled() ? "INFO" : "ERROR";
         log.info("Log level is "+logLevel);
+        if (config.getScanIndexFile() == null) {
+            config.setScanIndexFile(new File(project.getBuild().getDirectory(), "lazydoc/scan-index").getPath());
+        }
         log.debug(config.toString());
         try {
             ClassLoader classLoader = getClassLoader();